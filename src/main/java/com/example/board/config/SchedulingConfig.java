@@ -0,0 +1,32 @@
+package com.example.board.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업용 스케줄러
+ *
+ * - STOMP 설정이 TaskScheduler 빈(messageBrokerTaskScheduler, 브로커 하트비트)을 등록하므로
+ *   스프링 부트 기본 taskScheduler가 만들어지지 않음 → 이름으로 직접 등록
+ * - spring.task.scheduling.* 설정(스레드 수 등)을 그대로 적용
+ * - 칸반 이동 브로드캐스트(50ms 주기)는 전용 스레드 → 정리/저장 작업이 공용 풀을 잡고 있어도 밀리지 않음
+ */
+@Configuration
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    // KanbanMoveBroadcaster.flush 전용
+    @Bean
+    public ThreadPoolTaskScheduler kanbanBroadcastScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("kanban-broadcast-");
+        return scheduler;
+    }
+}
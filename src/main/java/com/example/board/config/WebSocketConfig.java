@@ -1,25 +1,57 @@
 package com.example.board.config;
 
+import com.example.board.security.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    @Value("${collab.presence.heartbeat:10000}")
+    private long heartbeatMillis;
+
+    /**
+     * 브로커 하트비트 스케줄러 (빈으로 등록 → 컨텍스트 종료 시 함께 종료)
+     */
+    @Bean
+    public ThreadPoolTaskScheduler brokerHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        return scheduler;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 구독할 주제 prefix
-        config.enableSimpleBroker("/topic", "/queue");
+        // 하트비트: 클라이언트 하트비트가 끊기면 브로커가 세션을 닫음 → SessionDisconnectEvent (PresenceRegistry)
+        config.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{heartbeatMillis, heartbeatMillis})
+                .setTaskScheduler(brokerHeartbeatScheduler());
         // 클라이언트가 메시지 보낼 때 사용할 prefix
         config.setApplicationDestinationPrefixes("/app");
+        // 세션별 서버 → 클라이언트 전송 순서 보장 (브로드캐스트된 업데이트가 적용 순서대로 도착)
+        config.setPreservePublishOrder(true);
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // 세션별 클라이언트 → 서버 수신 순서 보장
+        // (공동 편집 UPDATE는 seq가 연속이어야 함 → 순서가 바뀌면 빠진 연산으로 거절되고 전체 SYNC)
+        registry.setPreserveReceiveOrder(true);
+
         // SockJS를 사용하는 WebSocket 엔드포인트
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("http://localhost:3000")
@@ -29,4 +61,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("http://localhost:3000");
     }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // CONNECT 헤더의 JWT로 세션 사용자 설정
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
 }
\ No newline at end of file
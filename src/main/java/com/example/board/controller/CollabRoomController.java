@@ -4,6 +4,7 @@ import com.example.board.dto.collab.CollabRoomContentRequest;
 import com.example.board.dto.collab.CollabRoomCreateRequest;
 import com.example.board.dto.collab.CollabRoomPublishRequest;
 import com.example.board.dto.collab.CollabRoomResponse;
+import com.example.board.dto.collab.PresenceResponse;
 import com.example.board.security.UserPrincipal;
 import com.example.board.service.CollabRoomService;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +41,11 @@ public class CollabRoomController {
         return ResponseEntity.ok(collabRoomService.getRoom(roomId, getCurrentUserId()));
     }
 
+    @GetMapping("/{roomId}/presence")
+    public ResponseEntity<List<PresenceResponse>> getPresence(@PathVariable Long roomId) {
+        return ResponseEntity.ok(collabRoomService.getPresence(roomId, getCurrentUserId()));
+    }
+
     @PostMapping
     public ResponseEntity<CollabRoomResponse> createRoom(@RequestBody CollabRoomCreateRequest request) {
         return ResponseEntity.ok(collabRoomService.createRoom(getCurrentUserId(), request));
@@ -1,20 +1,36 @@
 package com.example.board.controller;
 
 import com.example.board.dto.websocket.CollaborativeEditMessage;
+import com.example.board.dto.kanban.KanbanCardMoveRequest;
 import com.example.board.dto.websocket.KanbanCardMoveMessage;
-import com.example.board.service.CollaborativeEditService;
+import com.example.board.dto.websocket.KanbanMoveErrorMessage;
+import com.example.board.exception.KanbanConflictException;
+import com.example.board.security.UserPrincipal;
+import com.example.board.service.CollabCrdtService;
+import com.example.board.service.CollabOtService;
+import com.example.board.service.KanbanMoveService;
+import com.example.board.service.PresenceRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 
+import java.security.Principal;
+
 @Controller
 @RequiredArgsConstructor
+@Slf4j
 public class CollaborativeEditController {
 
-    private final CollaborativeEditService editService;
+    private final PresenceRegistry presenceRegistry;
+    private final KanbanMoveService kanbanMoveService;
+    private final CollabCrdtService collabCrdtService;
+    private final CollabOtService collabOtService;
 
     /**
      * 게시글 공동 편집
@@ -31,16 +47,8 @@ public class CollaborativeEditController {
         message.setTimestamp(System.currentTimeMillis());
         message.setPostId(postId);
 
-        // 세션 관리
-        if (message.getType() == CollaborativeEditMessage.MessageType.JOIN) {
-            editService.addEditSession(
-                    postId,
-                    message.getUserId(),
-                    headerAccessor.getSessionId()
-            );
-        } else if (message.getType() == CollaborativeEditMessage.MessageType.LEAVE) {
-            editService.removeEditSession(postId, message.getUserId());
-        }
+        // 접속자 관리 (메모리)
+        updatePresence(PresenceRegistry.post(postId), message, headerAccessor);
 
         return message;
     }
@@ -49,6 +57,15 @@ public class CollaborativeEditController {
      * 공동 편집 방
      * 클라이언트 → /app/collab-room/{roomId}/edit
      * 브로드캐스트 → /topic/collab-room/{roomId}
+     * 방 문서 엔진은 collab.engine 설정으로 선택 (한 방에 두 엔진을 같이 쓸 수 없음)
+     * - crdt (기본)
+     *   - UPDATE: CRDT 업데이트 병합 후 CollabCrdtService가 새로 적용된 부분만 브로드캐스트
+     *   - JOIN / SYNC: 해당 세션에 /user/queue/collab-room 으로 클라이언트 id + 빠진 업데이트 (SYNC)
+     * - ot
+     *   - OPERATION: 서버에서 변환/적용 후 CollabOtService가 연산만 브로드캐스트
+     *   - JOIN: 입장한 세션에 /user/queue/collab-room 으로 현재 내용 + revision (SYNC)
+     * - CONTENT_CHANGE (이전 클라이언트): 차이를 사용 중인 엔진의 연산으로 바꿔 같은 경로로
+     * - 다른 엔진의 메시지는 브로드캐스트하지 않고 해당 세션에 사유만 담은 SYNC
      */
     @MessageMapping("/collab-room/{roomId}/edit")
     @SendTo("/topic/collab-room/{roomId}")
@@ -60,29 +77,144 @@ public class CollaborativeEditController {
         message.setTimestamp(System.currentTimeMillis());
         message.setPostId(roomId);
 
-        if (message.getType() == CollaborativeEditMessage.MessageType.JOIN) {
-            editService.addEditSession(roomId, message.getUserId(), headerAccessor.getSessionId());
-        } else if (message.getType() == CollaborativeEditMessage.MessageType.LEAVE) {
-            editService.removeEditSession(roomId, message.getUserId());
+        updatePresence(PresenceRegistry.room(roomId), message, headerAccessor);
+
+        UserPrincipal currentUser = currentUser(headerAccessor);
+        String sessionId = headerAccessor.getSessionId();
+        CollaborativeEditMessage.MessageType type = message.getType();
+
+        if (type == CollaborativeEditMessage.MessageType.OPERATION
+                || type == CollaborativeEditMessage.MessageType.UPDATE
+                || type == CollaborativeEditMessage.MessageType.CONTENT_CHANGE
+                || type == CollaborativeEditMessage.MessageType.SYNC) {
+            if (currentUser == null) {
+                log.warn("공동 편집 메시지 거절 (로그인 필요) - roomId: {}, sessionId: {}", roomId, sessionId);
+                return null;
+            }
+            if (collabOtService.isEnabled()) {
+                handleOtEdit(roomId, message, currentUser, sessionId);
+            } else {
+                handleCrdtEdit(roomId, message, currentUser, sessionId);
+            }
+            return null;  // 결과는 엔진이 브로드캐스트 / 해당 세션에 전송
+        }
+
+        if (type == CollaborativeEditMessage.MessageType.JOIN && currentUser != null) {
+            if (collabOtService.isEnabled()) {
+                try {
+                    collabOtService.sendSnapshot(roomId, currentUser.getId(), sessionId);
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    log.warn("공동 편집 방 입장 실패 - roomId: {}, {}", roomId, e.getMessage());
+                }
+            } else {
+                collabCrdtService.sync(roomId, message, currentUser.getId(), sessionId);
+            }
         }
 
         return message;
     }
 
+    private void handleOtEdit(Long roomId, CollaborativeEditMessage message, UserPrincipal currentUser,
+                              String sessionId) {
+        CollaborativeEditMessage.MessageType type = message.getType();
+        if (type == CollaborativeEditMessage.MessageType.OPERATION) {
+            collabOtService.applyOperation(roomId, message, currentUser.getId(), currentUser.getUsername(), sessionId);
+        } else if (type == CollaborativeEditMessage.MessageType.CONTENT_CHANGE) {
+            collabOtService.replaceContent(roomId, message.getContent(), currentUser.getId(),
+                    currentUser.getUsername(), sessionId);
+        } else {
+            collabOtService.rejectUnsupported(roomId, sessionId);
+        }
+    }
+
+    private void handleCrdtEdit(Long roomId, CollaborativeEditMessage message, UserPrincipal currentUser,
+                                String sessionId) {
+        CollaborativeEditMessage.MessageType type = message.getType();
+        if (type == CollaborativeEditMessage.MessageType.UPDATE) {
+            collabCrdtService.applyUpdate(roomId, message, currentUser.getId(), currentUser.getUsername(), sessionId);
+        } else if (type == CollaborativeEditMessage.MessageType.SYNC) {
+            collabCrdtService.sync(roomId, message, currentUser.getId(), sessionId);
+        } else if (type == CollaborativeEditMessage.MessageType.CONTENT_CHANGE) {
+            collabCrdtService.replaceContent(roomId, message.getContent(), currentUser.getId(),
+                    currentUser.getUsername(), sessionId);
+        } else {
+            collabCrdtService.rejectUnsupported(roomId, sessionId);
+        }
+    }
+
+    private UserPrincipal currentUser(SimpMessageHeaderAccessor headerAccessor) {
+        if (headerAccessor.getUser() instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof UserPrincipal currentUser) {
+            return currentUser;
+        }
+        return null;
+    }
+
+    private void updatePresence(PresenceRegistry.Channel channel, CollaborativeEditMessage message,
+                                SimpMessageHeaderAccessor headerAccessor) {
+        // 로그인한 세션이면 메시지의 사용자 정보 대신 세션 사용자 사용
+        UserPrincipal currentUser = currentUser(headerAccessor);
+        if (currentUser != null) {
+            message.setUserId(currentUser.getId());
+            message.setUsername(currentUser.getUsername());
+        }
+
+        if (message.getType() == CollaborativeEditMessage.MessageType.JOIN) {
+            presenceRegistry.join(channel, headerAccessor.getSessionId(), message.getUserId(), message.getUsername());
+        } else if (message.getType() == CollaborativeEditMessage.MessageType.LEAVE) {
+            presenceRegistry.leave(channel, headerAccessor.getSessionId());
+        }
+    }
+
     /**
-     * 칸반 카드 이동
+     * 칸반 카드 이동 (서버에서 저장 후 브로드캐스트)
      * 클라이언트 → /app/kanban/{boardId}/move
-     * 브로드캐스트 → /topic/kanban/{boardId}
+     * 브로드캐스트 → /topic/kanban/{boardId} (커밋 후, KanbanMoveBroadcaster가 보드별로 모아서 전송)
+     * 실패 → 요청한 세션에만 /user/queue/kanban/errors
      */
     @MessageMapping("/kanban/{boardId}/move")
-    @SendTo("/topic/kanban/{boardId}")
-    public KanbanCardMoveMessage handleCardMove(
+    @SendToUser(destinations = "/queue/kanban/errors", broadcast = false)
+    public KanbanMoveErrorMessage handleCardMove(
             @DestinationVariable Long boardId,
-            KanbanCardMoveMessage message) {
+            KanbanCardMoveMessage message,
+            Principal principal) {
 
-        message.setTimestamp(System.currentTimeMillis());
-        message.setBoardId(boardId);
+        if (!(principal instanceof Authentication authentication)
+                || !(authentication.getPrincipal() instanceof UserPrincipal currentUser)) {
+            return moveError(boardId, message, "로그인이 필요합니다");
+        }
+        if (message.getCardId() == null || message.getStatus() == null || message.getPosition() == null) {
+            return moveError(boardId, message, "cardId, status, position은 필수입니다");
+        }
 
-        return message;
+        KanbanCardMoveRequest request = KanbanCardMoveRequest.builder()
+                .status(message.getStatus())
+                .position(message.getPosition())
+                .version(message.getVersion())
+                .build();
+
+        try {
+            kanbanMoveService.moveCard(boardId, message.getCardId(), request, currentUser.getId());
+            return null;  // 성공 결과는 브로드캐스트로 전달
+        } catch (KanbanConflictException e) {
+            KanbanMoveErrorMessage error = moveError(boardId, message, e.getMessage());
+            error.setBoardRevision(e.getBoardRevision());
+            error.setColumnStatus(e.getStatus());
+            error.setCardIds(e.getCardIds());
+            return error;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.warn("칸반 카드 이동 실패 (STOMP) - boardId: {}, cardId: {}, {}", boardId, message.getCardId(), e.getMessage());
+            return moveError(boardId, message, e.getMessage());
+        }
+    }
+
+    private KanbanMoveErrorMessage moveError(Long boardId, KanbanCardMoveMessage message, String reason) {
+        return KanbanMoveErrorMessage.builder()
+                .clientMoveId(message.getClientMoveId())
+                .boardId(boardId)
+                .cardId(message.getCardId())
+                .message(reason)
+                .timestamp(System.currentTimeMillis())
+                .build();
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.board.controller;
 
+import com.example.board.dto.response.CommentCursorResponse;
 import com.example.board.dto.response.CommentListResponse;
 import com.example.board.dto.response.CommentResponse;
 import com.example.board.dto.request.CreateCommentRequest;
@@ -40,6 +41,16 @@ public class CommentController {
         return ResponseEntity.ok(response);
     }
 
+    // ✅ 커서 기반 댓글 조회 (무한 스크롤용)
+    @GetMapping("/cursor")
+    public ResponseEntity<CommentCursorResponse> getCommentsByCursor(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CommentCursorResponse response = commentService.getCommentsByCursor(postId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping
     public ResponseEntity<CommentResponse> createComment(
             @PathVariable Long postId,
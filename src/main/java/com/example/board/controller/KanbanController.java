@@ -2,6 +2,7 @@ package com.example.board.controller;
 
 import com.example.board.dto.kanban.*;
 import com.example.board.security.UserPrincipal;
+import com.example.board.service.KanbanMoveService;
 import com.example.board.service.KanbanService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ import com.example.board.dto.kanban.KanbanCardCommentResponse;
 public class KanbanController {
 
     private final KanbanService kanbanService;
+    private final KanbanMoveService kanbanMoveService;
 
     // ========================================
     // 칸반 보드 API
@@ -71,6 +73,31 @@ public class KanbanController {
         return ResponseEntity.ok(board);
     }
 
+    /**
+     * 칸반 보드 스냅샷 (보드 화면용 압축 응답)
+     */
+    @GetMapping("/boards/{boardId}/snapshot")
+    public ResponseEntity<KanbanBoardSnapshotResponse> getBoardSnapshot(
+            @PathVariable Long boardId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        KanbanBoardSnapshotResponse snapshot = kanbanService.getBoardSnapshot(boardId, currentUser.getId());
+        return ResponseEntity.ok(snapshot);
+    }
+
+    /**
+     * 칸반 보드 델타 조회 (since revision 이후 바뀐 카드만, 로그가 정리된 경우 전체 스냅샷)
+     */
+    @GetMapping("/boards/{boardId}/changes")
+    public ResponseEntity<KanbanBoardChangesResponse> getBoardChanges(
+            @PathVariable Long boardId,
+            @RequestParam(required = false) Long since,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        KanbanBoardChangesResponse changes = kanbanService.getBoardChanges(boardId, since, currentUser.getId());
+        return ResponseEntity.ok(changes);
+    }
+
     /**
      * 칸반 보드 삭제
      */
@@ -124,7 +151,7 @@ public class KanbanController {
             @Valid @RequestBody KanbanCardMoveRequest request,
             @AuthenticationPrincipal UserPrincipal currentUser) {
 
-        KanbanCardResponse response = kanbanService.moveCard(boardId, cardId, request, currentUser.getId());
+        KanbanCardResponse response = kanbanMoveService.moveCard(boardId, cardId, request, currentUser.getId());
         return ResponseEntity.ok(response);
     }
 
@@ -149,13 +176,13 @@ public class KanbanController {
      * 체크리스트 아이템 추가
      */
     @PostMapping("/boards/{boardId}/cards/{cardId}/checklist")
-    public ResponseEntity<KanbanCardResponse> addChecklistItem(
+    public ResponseEntity<KanbanChecklistDeltaResponse> addChecklistItem(
             @PathVariable Long boardId,
             @PathVariable Long cardId,
             @RequestBody ChecklistItemRequest request,
             @AuthenticationPrincipal UserPrincipal currentUser) {
 
-        KanbanCardResponse response = kanbanService.addChecklistItem(boardId, cardId, request, currentUser.getId());
+        KanbanChecklistDeltaResponse response = kanbanService.addChecklistItem(boardId, cardId, request, currentUser.getId());
         return ResponseEntity.ok(response);
     }
 
@@ -163,13 +190,13 @@ public class KanbanController {
      * 체크리스트 아이템 토글
      */
     @PatchMapping("/boards/{boardId}/cards/{cardId}/checklist/{itemId}/toggle")
-    public ResponseEntity<KanbanCardResponse> toggleChecklistItem(
+    public ResponseEntity<KanbanChecklistDeltaResponse> toggleChecklistItem(
             @PathVariable Long boardId,
             @PathVariable Long cardId,
             @PathVariable Long itemId,
             @AuthenticationPrincipal UserPrincipal currentUser) {
 
-        KanbanCardResponse response = kanbanService.toggleChecklistItem(boardId, cardId, itemId, currentUser.getId());
+        KanbanChecklistDeltaResponse response = kanbanService.toggleChecklistItem(boardId, cardId, itemId, currentUser.getId());
         return ResponseEntity.ok(response);
     }
 
@@ -213,13 +240,13 @@ public class KanbanController {
      * 체크리스트 아이템 삭제
      */
     @DeleteMapping("/boards/{boardId}/cards/{cardId}/checklist/{itemId}")
-    public ResponseEntity<KanbanCardResponse> deleteChecklistItem(
+    public ResponseEntity<KanbanChecklistDeltaResponse> deleteChecklistItem(
             @PathVariable Long boardId,
             @PathVariable Long cardId,
             @PathVariable Long itemId,
             @AuthenticationPrincipal UserPrincipal currentUser) {
 
-        KanbanCardResponse response = kanbanService.deleteChecklistItem(boardId, cardId, itemId, currentUser.getId());
+        KanbanChecklistDeltaResponse response = kanbanService.deleteChecklistItem(boardId, cardId, itemId, currentUser.getId());
         return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.example.board.controller;
 
 import com.example.board.dto.request.CreatePostRequest;
 import com.example.board.dto.request.UpdatePostRequest;
+import com.example.board.dto.response.PostCursorResponse;
 import com.example.board.dto.response.PostListResponse;
 import com.example.board.dto.response.PostResponse;
 import com.example.board.security.UserPrincipal;  // ✅ import 추가
@@ -74,6 +75,20 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    // ✅ 커서 기반 게시글 목록 조회 (무한 스크롤용)
+    @GetMapping("/cursor")
+    public ResponseEntity<PostCursorResponse> getPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String tagName,
+            @RequestParam(required = false) String keyword) {
+
+        Long userId = getUserIdFromAuthentication();
+        PostCursorResponse response = postService.getPostsByCursor(cursor, size, userId, categoryId, tagName, keyword);
+        return ResponseEntity.ok(response);
+    }
+
     // 게시글 상세 조회
     @GetMapping("/{id}")
     public ResponseEntity<PostResponse> getPost(@PathVariable Long id) {
@@ -1,5 +1,6 @@
 package com.example.board.controller;
 
+import com.example.board.dto.response.TagCleanupResponse;
 import com.example.board.dto.response.TagResponse;
 import com.example.board.service.TagService;
 import lombok.RequiredArgsConstructor;
@@ -27,16 +28,24 @@ public class TagController {
         return ResponseEntity.ok(tagService.getPopularTags());
     }
 
-    // 태그 검색
+    // 태그 검색 (자동완성)
     @GetMapping("/search")
-    public ResponseEntity<List<TagResponse>> searchTags(@RequestParam String keyword) {
-        return ResponseEntity.ok(tagService.searchTags(keyword));
+    public ResponseEntity<List<TagResponse>> searchTags(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(tagService.searchTags(keyword, limit));
     }
 
-    // 사용되지 않는 태그 삭제 (관리자용)
+    // 사용되지 않는 태그 삭제 + use_count 보정 (관리자용, 평소에는 스케줄러가 실행)
     @DeleteMapping("/unused")
-    public ResponseEntity<Void> deleteUnusedTags() {
-        tagService.deleteUnusedTags();
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<TagCleanupResponse> deleteUnusedTags() {
+        return ResponseEntity.ok(tagService.cleanUpTags());
+    }
+
+    // 마지막 태그 정리 결과
+    @GetMapping("/cleanup/last")
+    public ResponseEntity<TagCleanupResponse> getLastCleanup() {
+        TagCleanupResponse last = tagService.getLastCleanup();
+        return last != null ? ResponseEntity.ok(last) : ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
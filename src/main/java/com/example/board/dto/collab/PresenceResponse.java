@@ -0,0 +1,16 @@
+package com.example.board.dto.collab;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceResponse {
+    private Long userId;
+    private String username;
+    private LocalDateTime joinedAt;
+}
@@ -0,0 +1,55 @@
+package com.example.board.dto.kanban;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 보드 델타 응답 (GET /boards/{boardId}/changes?since=)
+ *
+ * - fullSnapshot=false: since 이후 바뀐 카드(cards)와 삭제된 카드 ID(deletedCardIds)만 포함
+ * - fullSnapshot=true: 변경 로그가 정리되었거나 since가 잘못된 경우 → snapshot으로 보드 전체를 교체
+ * - 클라이언트는 응답의 revision을 다음 요청의 since로 사용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KanbanBoardChangesResponse {
+
+    private Long boardId;
+    private Long since;
+    private Long revision;
+    private boolean fullSnapshot;
+    private List<KanbanBoardSnapshotResponse.CardSnapshot> cards;
+    private List<Long> deletedCardIds;
+    private KanbanBoardSnapshotResponse snapshot;
+
+    public static KanbanBoardChangesResponse delta(Long boardId, Long since, Long revision,
+                                                   List<KanbanBoardSnapshotResponse.CardSnapshot> cards,
+                                                   List<Long> deletedCardIds) {
+        return KanbanBoardChangesResponse.builder()
+                .boardId(boardId)
+                .since(since)
+                .revision(revision)
+                .fullSnapshot(false)
+                .cards(cards)
+                .deletedCardIds(deletedCardIds)
+                .build();
+    }
+
+    public static KanbanBoardChangesResponse full(Long since, KanbanBoardSnapshotResponse snapshot) {
+        return KanbanBoardChangesResponse.builder()
+                .boardId(snapshot.getId())
+                .since(since)
+                .revision(snapshot.getRevision())
+                .fullSnapshot(true)
+                .cards(List.of())
+                .deletedCardIds(List.of())
+                .snapshot(snapshot)
+                .build();
+    }
+}
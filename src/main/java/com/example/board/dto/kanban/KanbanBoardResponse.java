@@ -2,6 +2,7 @@
 package com.example.board.dto.kanban;
 
 import com.example.board.entity.KanbanBoard;
+import com.example.board.repository.projection.KanbanBoardSummaryView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,7 +10,6 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @NoArgsConstructor
@@ -23,10 +23,15 @@ public class KanbanBoardResponse {
     private String name;
     private String description;
     private Integer cardCount;
+    private Integer todoCount;
+    private Integer inProgressCount;
+    private Integer doneCount;
+    private Long revision;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private List<KanbanCardResponse> cards;
 
+    // 생성 직후 응답용 (카드 없음)
     public static KanbanBoardResponse from(KanbanBoard board) {
         return KanbanBoardResponse.builder()
                 .id(board.getId())
@@ -34,17 +39,40 @@ public class KanbanBoardResponse {
                 .teamName(board.getTeam().getName())
                 .name(board.getName())
                 .description(board.getDescription())
-                .cardCount(board.getCards().size())
+                .cardCount(0)
+                .todoCount(0)
+                .inProgressCount(0)
+                .doneCount(0)
+                .revision(board.getRevision())
                 .createdAt(board.getCreatedAt())
                 .updatedAt(board.getUpdatedAt())
                 .build();
     }
 
-    public static KanbanBoardResponse fromWithCards(KanbanBoard board) {
-        List<KanbanCardResponse> cards = board.getCards().stream()
-                .map(KanbanCardResponse::from)
-                .collect(Collectors.toList());
+    // ✅ 보드 목록용: 카드 수는 프로젝션 쿼리에서 센 값 (board.getCards() 초기화 없음)
+    public static KanbanBoardResponse from(KanbanBoardSummaryView summary) {
+        int todo = summary.getTodoCount() != null ? summary.getTodoCount().intValue() : 0;
+        int inProgress = summary.getInProgressCount() != null ? summary.getInProgressCount().intValue() : 0;
+        int done = summary.getDoneCount() != null ? summary.getDoneCount().intValue() : 0;
 
+        return KanbanBoardResponse.builder()
+                .id(summary.getId())
+                .teamId(summary.getTeamId())
+                .teamName(summary.getTeamName())
+                .name(summary.getName())
+                .description(summary.getDescription())
+                .cardCount(todo + inProgress + done)
+                .todoCount(todo)
+                .inProgressCount(inProgress)
+                .doneCount(done)
+                .revision(summary.getRevision())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+
+    // team은 fetch 된 상태여야 함, cards는 KanbanService.getBoard에서 묶음 조회로 만든 값
+    public static KanbanBoardResponse fromWithCards(KanbanBoard board, List<KanbanCardResponse> cards) {
         return KanbanBoardResponse.builder()
                 .id(board.getId())
                 .teamId(board.getTeam().getId())
@@ -52,9 +80,17 @@ public class KanbanBoardResponse {
                 .name(board.getName())
                 .description(board.getDescription())
                 .cardCount(cards.size())
+                .todoCount(countByStatus(cards, "TODO"))
+                .inProgressCount(countByStatus(cards, "IN_PROGRESS"))
+                .doneCount(countByStatus(cards, "DONE"))
+                .revision(board.getRevision())
                 .createdAt(board.getCreatedAt())
                 .updatedAt(board.getUpdatedAt())
                 .cards(cards)
                 .build();
     }
-}
\ No newline at end of file
+
+    private static int countByStatus(List<KanbanCardResponse> cards, String status) {
+        return (int) cards.stream().filter(card -> status.equals(card.getStatus())).count();
+    }
+}
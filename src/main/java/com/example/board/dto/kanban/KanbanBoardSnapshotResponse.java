@@ -0,0 +1,77 @@
+package com.example.board.dto.kanban;
+
+import com.example.board.entity.KanbanBoard;
+import com.example.board.entity.KanbanCard;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보드 화면용 압축 응답 (카드 설명/체크리스트 항목/타임스탬프 제외, 개수만 포함)
+ * 카드 상세는 카드를 열 때 따로 조회
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KanbanBoardSnapshotResponse {
+
+    private Long id;
+    private Long teamId;
+    private String teamName;
+    private String name;
+    private Long revision;
+    private List<CardSnapshot> cards;  // status, position 순
+
+    public static KanbanBoardSnapshotResponse of(KanbanBoard board, List<CardSnapshot> cards) {
+        return KanbanBoardSnapshotResponse.builder()
+                .id(board.getId())
+                .teamId(board.getTeam().getId())
+                .teamName(board.getTeam().getName())
+                .name(board.getName())
+                .revision(board.getRevision())
+                .cards(cards)
+                .build();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CardSnapshot {
+        private Long id;
+        private String title;
+        private String status;
+        private Long position;
+        private Long version;
+        private String priority;
+        private LocalDateTime dueDate;
+        private Long assignedToId;
+        private String assignedToUsername;
+        private Integer commentCount;
+        private Integer checklistTotal;
+        private Integer checklistCompleted;
+
+        // assignedTo는 fetch 된 상태여야 함 (KanbanCardRepository.findBoardCardsWithUsers)
+        public static CardSnapshot of(KanbanCard card, int commentCount, int checklistTotal, int checklistCompleted) {
+            return CardSnapshot.builder()
+                    .id(card.getId())
+                    .title(card.getTitle())
+                    .status(card.getStatus().name())
+                    .position(card.getPosition())
+                    .version(card.getVersion())
+                    .priority(card.getPriority().name())
+                    .dueDate(card.getDueDate())
+                    .assignedToId(card.getAssignedTo() != null ? card.getAssignedTo().getId() : null)
+                    .assignedToUsername(card.getAssignedTo() != null ? card.getAssignedTo().getUsername() : null)
+                    .commentCount(commentCount)
+                    .checklistTotal(checklistTotal)
+                    .checklistCompleted(checklistCompleted)
+                    .build();
+        }
+    }
+}
@@ -18,5 +18,7 @@ public class KanbanCardMoveRequest {
     private String status;  // TODO, IN_PROGRESS, DONE
 
     @NotNull(message = "위치는 필수입니다")
-    private Integer position;  // 새로운 위치
+    private Integer position;  // 새로운 위치 (이동 후 컬럼 내 순번, 0부터)
+
+    private Long version;  // 클라이언트가 보고 있던 카드 version (선택, 다르면 409)
 }
\ No newline at end of file
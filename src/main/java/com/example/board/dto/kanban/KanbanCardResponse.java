@@ -1,5 +1,6 @@
 package com.example.board.dto.kanban;
 
+import com.example.board.entity.KanbanBoard;
 import com.example.board.entity.KanbanCard;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,7 +22,7 @@ public class KanbanCardResponse {
     private String title;
     private String description;
     private String status;
-    private Integer position;
+    private Long position;  // 컬럼 내 정렬 키 (오름차순, 연속 값 아님)
     private Long assignedToId;
     private String assignedToUsername;
     private Long createdById;
@@ -32,6 +33,8 @@ public class KanbanCardResponse {
     private Integer checklistTotal; // ✅ 체크리스트 총 개수
     private Integer checklistCompleted; // ✅ 체크리스트 완료 개수
     private List<ChecklistItemResponse> checklistItems; // ✅ 체크리스트
+    private Long version; // ✅ 카드 version (이동 요청 시 그대로 전달)
+    private Long boardRevision; // ✅ 이 변경이 반영된 보드 revision
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -57,6 +60,36 @@ public class KanbanCardResponse {
                         card.getChecklistItems().stream()
                                 .map(ChecklistItemResponse::from)
                                 .collect(Collectors.toList()) : null) // ✅
+                .version(card.getVersion())
+                .boardRevision(card.getBoard().getRevision())
+                .createdAt(card.getCreatedAt())
+                .updatedAt(card.getUpdatedAt())
+                .build();
+    }
+
+    // ✅ 보드 조회용: 체크리스트/댓글 수는 카드 ID로 묶어서 조회한 값 사용 (카드별 지연 로딩 없음)
+    // assignedTo, createdBy는 fetch 된 상태여야 함
+    public static KanbanCardResponse of(KanbanCard card, KanbanBoard board,
+                                        List<ChecklistItemResponse> checklistItems, int commentCount) {
+        return KanbanCardResponse.builder()
+                .id(card.getId())
+                .boardId(board.getId())
+                .title(card.getTitle())
+                .description(card.getDescription())
+                .status(card.getStatus().name())
+                .position(card.getPosition())
+                .assignedToId(card.getAssignedTo() != null ? card.getAssignedTo().getId() : null)
+                .assignedToUsername(card.getAssignedTo() != null ? card.getAssignedTo().getUsername() : null)
+                .createdById(card.getCreatedBy().getId())
+                .createdByUsername(card.getCreatedBy().getUsername())
+                .dueDate(card.getDueDate())
+                .priority(card.getPriority().name())
+                .commentCount(commentCount)
+                .checklistTotal(checklistItems.size())
+                .checklistCompleted((int) checklistItems.stream().filter(item -> item.getCompleted()).count())
+                .checklistItems(checklistItems)
+                .version(card.getVersion())
+                .boardRevision(board.getRevision())
                 .createdAt(card.getCreatedAt())
                 .updatedAt(card.getUpdatedAt())
                 .build();
@@ -0,0 +1,23 @@
+package com.example.board.dto.kanban;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 체크리스트 변경 응답 (바뀐 항목 + 카드 진행률만, 카드 전체는 다시 보내지 않음)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KanbanChecklistDeltaResponse {
+
+    private Long cardId;
+    private KanbanCardResponse.ChecklistItemResponse item;  // 추가/토글된 항목 (삭제면 null)
+    private Long deletedItemId;                              // 삭제된 항목 ID
+    private Integer checklistTotal;
+    private Integer checklistCompleted;
+    private Long boardRevision;
+}
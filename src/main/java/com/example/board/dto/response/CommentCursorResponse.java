@@ -0,0 +1,22 @@
+package com.example.board.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 댓글 목록 응답 (전체 개수는 게시글의 commentCount 사용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentCursorResponse {
+    private List<CommentResponse> comments;
+    private String nextCursor;  // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private Boolean hasNext;
+    private Integer size;
+}
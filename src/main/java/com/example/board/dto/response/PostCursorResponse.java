@@ -0,0 +1,22 @@
+package com.example.board.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 게시글 목록 응답 (전체 개수 조회 없음)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCursorResponse {
+    private List<PostSummaryResponse> posts;
+    private String nextCursor;  // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private Boolean hasNext;
+    private Integer size;
+}
@@ -0,0 +1,77 @@
+package com.example.board.dto.response;
+
+import com.example.board.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 목록용 응답 (첨부파일 목록 대신 개수만 포함)
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSummaryResponse {
+    private Long id;
+    private String title;
+    private String content;
+    private Long authorId;
+    private String authorName;
+    private Integer views;
+    private Integer likeCount;
+    private Integer commentCount;
+    private Boolean isLiked;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private CategoryResponse category;
+    private Boolean isSecret;
+    private Boolean isCollaborative;
+    private Long teamId;
+    private String teamName;
+    private List<TagResponse> tags;
+    private Integer attachmentCount;
+
+    // author, category, team은 fetch 된 상태여야 함 (PostRepository 목록 쿼리 참고)
+    public static PostSummaryResponse of(Post post, List<TagResponse> tags, int attachmentCount, boolean isLiked) {
+        return PostSummaryResponse.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .authorId(post.getAuthor().getId())
+                .authorName(post.getAuthor().getUsername())
+                .views(post.getViews())
+                .likeCount(post.getLikeCount())
+                .commentCount(post.getCommentCount())
+                .isLiked(isLiked)
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .category(CategoryResponse.fromEntity(post.getCategory()))
+                .isSecret(post.getIsSecret())
+                .isCollaborative(post.getIsCollaborative() != null ? post.getIsCollaborative() : false)
+                .teamId(post.getTeam() != null ? post.getTeam().getId() : null)
+                .teamName(post.getTeam() != null ? post.getTeam().getName() : null)
+                .tags(tags != null ? tags : new ArrayList<>())
+                .attachmentCount(attachmentCount)
+                .build();
+    }
+
+    // ✅ 비밀게시글용: 내용/태그 숨김 처리 (작성자가 아닌 사용자에게 보여줄 때)
+    public static PostSummaryResponse secretSummary(PostSummaryResponse summary) {
+        return summary.toBuilder()
+                .content("🔒 비밀글입니다.")
+                .isLiked(false)
+                .isSecret(true)
+                .isCollaborative(null)
+                .teamId(null)
+                .teamName(null)
+                .tags(new ArrayList<>())
+                .attachmentCount(0)
+                .build();
+    }
+}
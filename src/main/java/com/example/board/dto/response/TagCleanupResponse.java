@@ -0,0 +1,23 @@
+package com.example.board.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 태그 정리 작업 결과 (use_count 보정 / 미사용 태그 삭제 행 수)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagCleanupResponse {
+    private Integer reconciledCount;  // post_tags 기준으로 use_count를 고친 태그 수
+    private Integer deletedCount;     // 삭제한 미사용 태그 수
+    private Integer chunks;           // 실행한 구간(트랜잭션) 수
+    private Long elapsedMillis;
+    private LocalDateTime finishedAt;
+}
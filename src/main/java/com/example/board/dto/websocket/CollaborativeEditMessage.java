@@ -2,6 +2,8 @@ package com.example.board.dto.websocket;
 
 import lombok.*;
 
+import java.util.List;
+
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,11 +17,28 @@ public class CollaborativeEditMessage {
     private Integer cursorPosition;
     private Long timestamp;
 
+    // 공동 편집 방 공통
+    private String clientId;     // OT: 보낸 클라이언트 식별자 (확인 응답용), CRDT: 서버가 세션에 부여한 클라이언트 id
+    private String reason;       // SYNC 사유 (연산/업데이트 거절 등)
+
+    // OPERATION / SYNC (collab.engine=ot, TextOperation)
+    private Long baseRevision;   // 클라이언트가 연산을 만든 기준 revision
+    private Long revision;       // 서버가 부여한 revision (SYNC면 content의 revision)
+    private List<Object> ops;    // 양수 = 유지, 문자열 = 삽입, 음수 = 삭제
+
+    // UPDATE / SYNC (collab.engine=crdt, RgaDocument)
+    private Long epoch;          // 서버 문서 식별 (문서를 다시 로딩하면 바뀜 → 전체 동기화)
+    private String update;       // 바이너리 업데이트 (Base64)
+    private String stateVector;  // 상태 벡터 (Base64), 이 이후 빠진 업데이트만 요청/응답
+
     public enum MessageType {
         JOIN,           // 편집 세션 참여
         LEAVE,          // 편집 세션 나감
         CONTENT_CHANGE, // 내용 변경
         CURSOR_MOVE,    // 커서 이동
-        SAVE            // 저장
+        SAVE,           // 저장
+        OPERATION,      // OT 편집 연산 (서버가 변환 후 revision 부여해서 브로드캐스트)
+        UPDATE,         // CRDT 업데이트 (서버가 적용 후 새로 적용된 부분만 브로드캐스트)
+        SYNC            // OT: 전체 내용 + revision, CRDT: 상태 벡터 교환 (해당 세션에만)
     }
 }
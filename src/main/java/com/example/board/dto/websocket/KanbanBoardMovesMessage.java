@@ -0,0 +1,37 @@
+package com.example.board.dto.websocket;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 칸반 카드 이동 브로드캐스트 (/topic/kanban/{boardId})
+ * 커밋된 이동만 포함, 짧은 구간의 이동을 보드별로 모아 한 프레임으로 전송
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KanbanBoardMovesMessage {
+    private Long boardId;
+    private Long revision;      // 프레임에 포함된 이동/재배치 중 가장 큰 보드 revision
+    private List<Move> moves;   // revision 순, 같은 카드는 마지막 이동만
+    private List<String> rebalancedColumns;  // 이 구간에 position이 다시 매겨진 컬럼 → /changes?since= 로 동기화 필요
+    private Long timestamp;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Move {
+        private Long cardId;
+        private String status;      // TODO, IN_PROGRESS, DONE
+        private Long position;      // 서버가 정한 정렬 값 (KanbanCard.position)
+        private Long version;       // 이동 후 카드 version
+        private Long revision;      // 이동이 커밋된 보드 revision
+        private boolean rebalanced; // 이 카드의 이동들 중 하나라도 컬럼 재배치를 일으킴 → /changes?since= 로 동기화 필요
+        private Long userId;
+    }
+}
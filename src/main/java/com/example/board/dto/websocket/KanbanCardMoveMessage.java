@@ -2,6 +2,10 @@ package com.example.board.dto.websocket;
 
 import lombok.*;
 
+/**
+ * 칸반 카드 이동 요청 (/app/kanban/{boardId}/move)
+ * 서버가 이동을 저장한 뒤 결과는 KanbanBoardMovesMessage로 브로드캐스트
+ */
 @Getter
 @Setter
 @NoArgsConstructor
@@ -11,8 +15,10 @@ public class KanbanCardMoveMessage {
     private Long cardId;
     private Long boardId;
     private String status;      // TODO, IN_PROGRESS, DONE
-    private Integer position;
+    private Integer position;   // 이동 후 컬럼 내 순번 (0부터)
+    private Long version;       // 클라이언트가 보고 있던 카드 version (선택, 다르면 충돌)
+    private String clientMoveId; // 실패 응답과 요청을 맞추기 위한 값 (선택)
     private Long userId;
     private String username;
     private Long timestamp;
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.example.board.dto.websocket;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 칸반 카드 이동 실패 응답 (요청한 세션에만 전송: /user/queue/kanban/errors)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KanbanMoveErrorMessage {
+    private String clientMoveId;  // 요청 메시지의 값 그대로
+    private Long boardId;
+    private Long cardId;
+    private String message;
+    private Long boardRevision;   // 충돌일 때: 현재 보드 revision
+    private String columnStatus;  // 충돌일 때: 대상 컬럼
+    private List<Long> cardIds;   // 충돌일 때: 대상 컬럼의 현재 카드 순서
+    private Long timestamp;
+}
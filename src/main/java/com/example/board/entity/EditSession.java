@@ -1,50 +0,0 @@
-package com.example.board.entity;
-
-import jakarta.persistence.*;
-import lombok.*;
-
-import java.time.LocalDateTime;
-
-@Entity
-@Table(name = "edit_session")
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
-public class EditSession {
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    @Column(name = "post_id", nullable = false)
-    private Long postId;
-
-    @Column(name = "user_id", nullable = false)
-    private Long userId;
-
-    @Column(name = "session_id", nullable = false, length = 100)
-    private String sessionId;
-
-    @Column(name = "connected_at")
-    private LocalDateTime connectedAt;
-
-    @Column(name = "last_active")
-    private LocalDateTime lastActive;
-
-    @PrePersist
-    protected void onCreate() {
-        if (connectedAt == null) {
-            connectedAt = LocalDateTime.now();
-        }
-        if (lastActive == null) {
-            lastActive = LocalDateTime.now();
-        }
-    }
-
-    @PreUpdate
-    protected void onUpdate() {
-        lastActive = LocalDateTime.now();
-    }
-}
\ No newline at end of file
@@ -30,6 +30,15 @@ public class KanbanBoard {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    // ✅ 낙관적 잠금
+    @Version
+    private Long version;
+
+    // ✅ 보드 변경 번호: 카드가 바뀔 때마다 +1 (KanbanBoardRepository.incrementRevision)
+    @Column(nullable = false)
+    @Builder.Default
+    private Long revision = 0L;
+
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,54 @@
+package com.example.board.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 칸반 보드 변경 로그 (append-only, 델타 동기화용)
+ * 변경된 카드 ID만 기록하고 내용은 조회 시점의 카드에서 읽음
+ */
+@Entity
+@Table(name = "kanban_board_change")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KanbanBoardChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(nullable = false)
+    private Long revision;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 30)
+    private ChangeType changeType;
+
+    @Column(name = "card_id")
+    private Long cardId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private KanbanCard.CardStatus status;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public enum ChangeType {
+        CARD_UPSERTED,     // 생성/수정/이동, 체크리스트·댓글 변경
+        CARD_DELETED,
+        COLUMN_REBALANCED  // 컬럼 전체 position 재배치
+    }
+}
@@ -37,7 +37,7 @@ public class KanbanCard {
 
     @Column(nullable = false)
     @Builder.Default
-    private Integer position = 0;
+    private Long position = 0L;  // 간격을 둔 정렬 키 (KanbanPositionRebalancer.POSITION_GAP)
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_to")
@@ -57,6 +57,19 @@ public class KanbanCard {
     @Builder.Default
     private Priority priority = Priority.MEDIUM;
 
+    // ✅ 체크리스트 개수 (KanbanCardRepository.adjustChecklistCounts로만 변경 → 엔티티 UPDATE에서는 제외)
+    @Column(name = "checklist_total", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer checklistTotal = 0;
+
+    @Column(name = "checklist_done", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer checklistDone = 0;
+
+    // ✅ 낙관적 잠금 (동시 이동/수정 충돌 감지)
+    @Version
+    private Long version;
+
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
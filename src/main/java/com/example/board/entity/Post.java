@@ -115,25 +115,21 @@ public class Post {
     @Builder.Default
     private List<Tag> tags = new ArrayList<>();
 
-    // 태그 추가 메서드
+    // 태그 추가 메서드 (post_tags만 변경, use_count는 TagService.assignTags에서 반영)
     public void addTag(Tag tag) {
-        this.tags.add(tag);
-        tag.getPosts().add(this);
-        tag.incrementUseCount();
+        if (!this.tags.contains(tag)) {
+            this.tags.add(tag);
+        }
     }
 
     // 태그 제거 메서드
     public void removeTag(Tag tag) {
         this.tags.remove(tag);
-        tag.getPosts().remove(this);
-        tag.decrementUseCount();
     }
 
     // 모든 태그 제거
     public void clearTags() {
-        for (Tag tag : new ArrayList<>(this.tags)) {
-            removeTag(tag);
-        }
+        this.tags.clear();
     }
 
     public void incrementLikeCount() {
@@ -9,8 +9,6 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Entity
 @Table(name = "tags")
@@ -32,23 +30,11 @@ public class Tag {
     @Builder.Default
     private Integer useCount = 0;  // 사용 횟수 (인기도)
 
-    @ManyToMany(mappedBy = "tags")
-    @Builder.Default
-    private List<Post> posts = new ArrayList<>();
-
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    // 사용 횟수 증가
-    public void incrementUseCount() {
-        this.useCount++;
-    }
-
-    // 사용 횟수 감소
-    public void decrementUseCount() {
-        if (this.useCount > 0) {
-            this.useCount--;
-        }
-    }
+    // ✅ 게시글 ↔ 태그 연관은 Post.tags(소유 측)에서만 관리
+    // (역방향 컬렉션은 인기 태그일수록 수천 건을 로딩하므로 두지 않음)
+    // 사용 횟수는 TagRepository의 상대 UPDATE로만 변경
 }
\ No newline at end of file
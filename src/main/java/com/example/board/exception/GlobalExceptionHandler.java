@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestControllerAdvice
@@ -35,6 +36,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    // ✅ 칸반 카드 이동 충돌: 현재 컬럼 순서를 함께 내려줌
+    @ExceptionHandler(KanbanConflictException.class)
+    public ResponseEntity<KanbanConflictResponse> handleKanbanConflictException(KanbanConflictException e) {
+        log.warn("❌ KanbanConflictException: {} (boardId: {}, status: {})", e.getMessage(), e.getBoardId(), e.getStatus());
+
+        KanbanConflictResponse response = new KanbanConflictResponse(
+                HttpStatus.CONFLICT.value(),
+                e.getMessage(),
+                LocalDateTime.now(),
+                e.getBoardId(),
+                e.getBoardRevision(),
+                e.getStatus(),
+                e.getCardIds()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ErrorResponse> handleIllegalStateException(IllegalStateException e) {
         log.error("❌ IllegalStateException: {}", e.getMessage());
@@ -107,4 +125,16 @@ public class GlobalExceptionHandler {
         private String message;
         private LocalDateTime timestamp;
     }
+
+    @Data
+    @AllArgsConstructor
+    static class KanbanConflictResponse {
+        private int status;
+        private String message;
+        private LocalDateTime timestamp;
+        private Long boardId;
+        private Long boardRevision;
+        private String columnStatus;
+        private List<Long> cardIds;
+    }
 }
\ No newline at end of file
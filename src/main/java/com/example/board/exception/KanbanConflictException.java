@@ -0,0 +1,28 @@
+package com.example.board.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 칸반 카드 동시 이동 충돌 (409)
+ * 클라이언트가 바로 다시 그릴 수 있도록 대상 컬럼의 현재 카드 순서를 함께 전달
+ */
+@Getter
+public class KanbanConflictException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long boardId;
+    private final Long boardRevision;
+    private final String status;
+    private final List<Long> cardIds;  // 컬럼의 현재 카드 순서
+
+    public KanbanConflictException(String message, Long boardId, Long boardRevision, String status, List<Long> cardIds) {
+        super(message);
+        this.boardId = boardId;
+        this.boardRevision = boardRevision;
+        this.status = status;
+        this.cardIds = cardIds;
+    }
+}
@@ -2,10 +2,13 @@ package com.example.board.repository;
 
 import com.example.board.entity.CollabRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +18,14 @@ public interface CollabRoomRepository extends JpaRepository<CollabRoom, Long> {
     @Query("SELECT r FROM CollabRoom r JOIN r.team t JOIN t.members m WHERE m.user.id = :userId AND r.isPublished = false ORDER BY r.createdAt DESC")
     List<CollabRoom> findActiveRoomsByUserId(Long userId);
 
-    @Query("SELECT r FROM CollabRoom r LEFT JOIN FETCH r.team t LEFT JOIN FETCH t.members LEFT JOIN FETCH r.createdBy WHERE r.id = :roomId")
-    Optional<CollabRoom> findByIdWithTeamAndMembers(@Param("roomId") Long roomId);
+    // 멤버 확인은 TeamMembershipCache로 → 팀 멤버 목록은 가져오지 않음
+    @Query("SELECT r FROM CollabRoom r JOIN FETCH r.team LEFT JOIN FETCH r.createdBy WHERE r.id = :roomId")
+    Optional<CollabRoom> findByIdWithTeam(@Param("roomId") Long roomId);
+
+    // 공동 편집 문서 주기 저장 (CollabCrdtService / CollabOtService) → 발행된 방은 더 이상 덮어쓰지 않음
+    @Transactional
+    @Modifying
+    @Query("UPDATE CollabRoom r SET r.content = :content, r.updatedAt = :updatedAt WHERE r.id = :roomId AND r.isPublished = false")
+    int updateContent(@Param("roomId") Long roomId, @Param("content") String content,
+                      @Param("updatedAt") LocalDateTime updatedAt);
 }
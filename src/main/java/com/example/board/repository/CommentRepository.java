@@ -1,15 +1,34 @@
 package com.example.board.repository;
 
 import com.example.board.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    List<Comment> findByPostIdOrderByCreatedAtAsc(Long postId);
+    // 작성자까지 조인으로 한 번에 조회 (댓글마다 사용자 조회 방지)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findByPostIdOrderByCreatedAtAsc(@Param("postId") Long postId);
 
     Long countByPostId(Long postId);
-}
\ No newline at end of file
+
+    // ✅ 커서(keyset) 페이지네이션: (createdAt, id) 오름차순으로 커서 다음 댓글부터 조회
+    // idx_comments_post_created_at_id (post_id, created_at, id) 인덱스 사용
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+            "WHERE c.post.id = :postId " +
+            "AND (:cursorCreatedAt IS NULL " +
+            "     OR c.createdAt > :cursorCreatedAt " +
+            "     OR (c.createdAt = :cursorCreatedAt AND c.id > :cursorId)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findByCursor(@Param("postId") Long postId,
+                               @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                               @Param("cursorId") Long cursorId,
+                               Pageable pageable);
+}
@@ -0,0 +1,36 @@
+package com.example.board.repository;
+
+import com.example.board.entity.KanbanBoardChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface KanbanBoardChangeRepository extends JpaRepository<KanbanBoardChange, Long> {
+
+    /**
+     * since 이후 변경 로그 (revision 순)
+     */
+    @Query("SELECT c FROM KanbanBoardChange c " +
+            "WHERE c.boardId = :boardId AND c.revision > :since " +
+            "ORDER BY c.revision ASC, c.id ASC")
+    List<KanbanBoardChange> findSince(@Param("boardId") Long boardId,
+                                      @Param("since") Long since,
+                                      Pageable pageable);
+
+    /**
+     * 오래된 로그 삭제 (chunk 단위)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM kanban_board_change WHERE created_at < :cutoff LIMIT :limit",
+            nativeQuery = true)
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -1,7 +1,9 @@
 package com.example.board.repository;
 
 import com.example.board.entity.KanbanBoard;
+import com.example.board.repository.projection.KanbanBoardSummaryView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,6 +19,12 @@ public interface KanbanBoardRepository extends JpaRepository<KanbanBoard, Long>
      */
     List<KanbanBoard> findByTeam_Id(Long teamId);
 
+    /**
+     * 보드 + 팀 조회 (보드 상세/스냅샷용)
+     */
+    @Query("SELECT b FROM KanbanBoard b JOIN FETCH b.team WHERE b.id = :boardId")
+    Optional<KanbanBoard> findWithTeamById(@Param("boardId") Long boardId);
+
     /**
      * 칸반 보드 ID와 팀 ID로 조회 (권한 확인용)
      */
@@ -32,4 +40,48 @@ public interface KanbanBoardRepository extends JpaRepository<KanbanBoard, Long>
             "JOIN t.members m " +
             "WHERE m.user.id = :userId")
     List<KanbanBoard> findAccessibleBoardsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 보드 목록 SELECT 절 (컬럼별 카드 수는 (board_id, status, position) 인덱스로 세는 상관 서브쿼리)
+     */
+    String SUMMARY_SELECT = "SELECT b.id AS id, t.id AS teamId, t.name AS teamName, " +
+            "b.name AS name, b.description AS description, b.revision AS revision, " +
+            "b.createdAt AS createdAt, b.updatedAt AS updatedAt, " +
+            "(SELECT COUNT(c) FROM KanbanCard c WHERE c.board = b " +
+            "   AND c.status = com.example.board.entity.KanbanCard$CardStatus.TODO) AS todoCount, " +
+            "(SELECT COUNT(c) FROM KanbanCard c WHERE c.board = b " +
+            "   AND c.status = com.example.board.entity.KanbanCard$CardStatus.IN_PROGRESS) AS inProgressCount, " +
+            "(SELECT COUNT(c) FROM KanbanCard c WHERE c.board = b " +
+            "   AND c.status = com.example.board.entity.KanbanCard$CardStatus.DONE) AS doneCount " +
+            "FROM KanbanBoard b JOIN b.team t ";
+
+    /**
+     * 사용자가 접근 가능한 보드 목록 + 컬럼별 카드 수 (SELECT 1번, 카드 엔티티 로딩 없음)
+     */
+    @Query(SUMMARY_SELECT +
+            "WHERE EXISTS (SELECT m.id FROM TeamMember m WHERE m.team = t AND m.user.id = :userId) " +
+            "ORDER BY b.id ASC")
+    List<KanbanBoardSummaryView> findAccessibleBoardSummaries(@Param("userId") Long userId);
+
+    /**
+     * 팀의 보드 목록 + 컬럼별 카드 수
+     */
+    @Query(SUMMARY_SELECT + "WHERE t.id = :teamId ORDER BY b.id ASC")
+    List<KanbanBoardSummaryView> findTeamBoardSummaries(@Param("teamId") Long teamId);
+
+    /**
+     * 보드 revision 증가 (보드 행 잠금 → 같은 보드의 카드 변경은 커밋 순서대로 직렬화)
+     */
+    @Modifying
+    @Query("UPDATE KanbanBoard b SET b.revision = b.revision + 1 WHERE b.id = :boardId")
+    int incrementRevision(@Param("boardId") Long boardId);
+
+    @Query("SELECT b.revision FROM KanbanBoard b WHERE b.id = :boardId")
+    Optional<Long> findRevisionById(@Param("boardId") Long boardId);
+
+    /**
+     * 보드의 팀 ID (보드 잠금 전 멤버 확인용, 팀 조인 없이 FK만 읽음)
+     */
+    @Query("SELECT b.team.id FROM KanbanBoard b WHERE b.id = :boardId")
+    Optional<Long> findTeamIdById(@Param("boardId") Long boardId);
 }
\ No newline at end of file
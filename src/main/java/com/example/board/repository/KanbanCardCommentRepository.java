@@ -1,9 +1,13 @@
 package com.example.board.repository;
 
 import com.example.board.entity.KanbanCardComment;
+import com.example.board.repository.projection.CardCountView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,4 +22,11 @@ public interface KanbanCardCommentRepository extends JpaRepository<KanbanCardCom
      * 카드 ID로 댓글 개수 조회
      */
     int countByCard_Id(Long cardId);
+
+    /**
+     * 여러 카드의 댓글 개수를 한 번에 조회
+     */
+    @Query("SELECT c.card.id AS cardId, COUNT(c) AS count FROM KanbanCardComment c " +
+            "WHERE c.card.id IN :cardIds GROUP BY c.card.id")
+    List<CardCountView> countByCardIds(@Param("cardIds") Collection<Long> cardIds);
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package com.example.board.repository;
 
 import com.example.board.entity.KanbanCard;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,20 +21,86 @@ public interface KanbanCardRepository extends JpaRepository<KanbanCard, Long> {
      */
     List<KanbanCard> findByBoard_IdOrderByPositionAsc(Long boardId);
 
+    /**
+     * 보드의 전체 카드 + 담당자/생성자 (조인 한 번, 보드 조회용)
+     */
+    @Query("SELECT c FROM KanbanCard c " +
+            "LEFT JOIN FETCH c.assignedTo " +
+            "JOIN FETCH c.createdBy " +
+            "WHERE c.board.id = :boardId " +
+            "ORDER BY c.status ASC, c.position ASC, c.id ASC")
+    List<KanbanCard> findBoardCardsWithUsers(@Param("boardId") Long boardId);
+
+    /**
+     * 보드의 특정 카드들 + 담당자/생성자 (델타 조회용)
+     */
+    @Query("SELECT c FROM KanbanCard c " +
+            "LEFT JOIN FETCH c.assignedTo " +
+            "JOIN FETCH c.createdBy " +
+            "WHERE c.board.id = :boardId AND c.id IN :cardIds " +
+            "ORDER BY c.status ASC, c.position ASC, c.id ASC")
+    List<KanbanCard> findBoardCardsWithUsersByIds(@Param("boardId") Long boardId,
+                                                  @Param("cardIds") Collection<Long> cardIds);
+
     /**
      * 보드 ID와 상태로 카드 조회 (position 순)
      */
     List<KanbanCard> findByBoard_IdAndStatusOrderByPositionAsc(Long boardId, KanbanCard.CardStatus status);
 
     /**
-     * 특정 position 이상의 카드들 조회
+     * 컬럼의 마지막(가장 큰) position (excludeCardId가 있으면 그 카드는 제외)
      */
-    @Query("SELECT c FROM KanbanCard c " +
-            "WHERE c.board.id = :boardId AND c.status = :status AND c.position >= :position " +
-            "ORDER BY c.position ASC")
-    List<KanbanCard> findCardsAfterPosition(@Param("boardId") Long boardId,
-                                            @Param("status") KanbanCard.CardStatus status,
-                                            @Param("position") Integer position);
+    @Query("SELECT MAX(c.position) FROM KanbanCard c " +
+            "WHERE c.board.id = :boardId AND c.status = :status " +
+            "AND (:excludeCardId IS NULL OR c.id <> :excludeCardId)")
+    Optional<Long> findMaxPosition(@Param("boardId") Long boardId,
+                                   @Param("status") KanbanCard.CardStatus status,
+                                   @Param("excludeCardId") Long excludeCardId);
+
+    /**
+     * 이동할 카드를 제외한 컬럼에서 n번째 카드의 position (pageable로 offset n, size 1 지정)
+     * 엔티티가 아닌 값으로 조회 → 재배치 직후에도 DB 값을 그대로 읽음
+     */
+    @Query("SELECT c.position FROM KanbanCard c " +
+            "WHERE c.board.id = :boardId AND c.status = :status AND c.id <> :excludeCardId " +
+            "ORDER BY c.position ASC, c.id ASC")
+    List<Long> findPositionsExcluding(@Param("boardId") Long boardId,
+                                      @Param("status") KanbanCard.CardStatus status,
+                                      @Param("excludeCardId") Long excludeCardId,
+                                      Pageable pageable);
+
+    /**
+     * 컬럼 position 재배치: 현재 순서 그대로 1·gap, 2·gap, ... (UPDATE 문 1번)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE kanban_card c " +
+            "JOIN (SELECT id, ROW_NUMBER() OVER (ORDER BY position, id) AS rn " +
+            "      FROM kanban_card WHERE board_id = :boardId AND status = :status) ranked ON ranked.id = c.id " +
+            "SET c.position = ranked.rn * :gap",
+            nativeQuery = true)
+    int rebalanceColumn(@Param("boardId") Long boardId,
+                        @Param("status") String status,
+                        @Param("gap") long gap);
+
+    /**
+     * 체크리스트 개수 상대 갱신 (체크리스트 추가/삭제/토글)
+     */
+    @Modifying
+    @Query("UPDATE KanbanCard c SET c.checklistTotal = c.checklistTotal + :totalDelta, " +
+            "c.checklistDone = c.checklistDone + :doneDelta WHERE c.id = :cardId")
+    int adjustChecklistCounts(@Param("cardId") Long cardId,
+                              @Param("totalDelta") int totalDelta,
+                              @Param("doneDelta") int doneDelta);
+
+    /**
+     * 컬럼의 카드 ID (현재 순서)
+     */
+    @Query("SELECT c.id FROM KanbanCard c " +
+            "WHERE c.board.id = :boardId AND c.status = :status " +
+            "ORDER BY c.position ASC, c.id ASC")
+    List<Long> findIdsInColumn(@Param("boardId") Long boardId,
+                               @Param("status") KanbanCard.CardStatus status);
 
     /**
      * 카드 ID와 보드 ID로 조회
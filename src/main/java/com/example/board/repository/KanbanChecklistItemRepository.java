@@ -1,10 +1,16 @@
 package com.example.board.repository;
 
 import com.example.board.entity.KanbanChecklistItem;
+import com.example.board.repository.projection.ChecklistToggleTargetView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface KanbanChecklistItemRepository extends JpaRepository<KanbanChecklistItem, Long> {
@@ -12,4 +18,37 @@ public interface KanbanChecklistItemRepository extends JpaRepository<KanbanCheck
     List<KanbanChecklistItem> findByCard_IdOrderByPositionAsc(Long cardId);
 
     void deleteByCard_Id(Long cardId);
-}
\ No newline at end of file
+
+    Optional<KanbanChecklistItem> findByIdAndCard_Id(Long id, Long cardId);
+
+    // 새 항목 position 계산용 (목록 전체를 읽지 않음)
+    @Query("SELECT MAX(i.position) FROM KanbanChecklistItem i WHERE i.card.id = :cardId")
+    Optional<Integer> findMaxPosition(@Param("cardId") Long cardId);
+
+    // 보드 조회용: 여러 카드의 체크리스트를 한 번에 조회
+    @Query("SELECT i FROM KanbanChecklistItem i WHERE i.card.id IN :cardIds ORDER BY i.position ASC, i.id ASC")
+    List<KanbanChecklistItem> findByCardIds(@Param("cardIds") Collection<Long> cardIds);
+
+    // 토글 대상 항목 + 카드 진행률 (항목/카드 엔티티를 읽지 않고 한 번에 조회)
+    @Query("SELECT i.id AS id, i.text AS text, i.completed AS completed, i.position AS position, " +
+            "c.checklistTotal AS checklistTotal, c.checklistDone AS checklistDone " +
+            "FROM KanbanChecklistItem i JOIN i.card c " +
+            "WHERE i.id = :itemId AND c.id = :cardId AND c.board.id = :boardId")
+    Optional<ChecklistToggleTargetView> findToggleTarget(@Param("boardId") Long boardId,
+                                                         @Param("cardId") Long cardId,
+                                                         @Param("itemId") Long itemId);
+
+    /**
+     * 항목 완료 여부 + 카드 완료 개수를 UPDATE 한 문장으로 (다중 테이블 UPDATE)
+     * SET 절끼리 서로 바뀐 값을 참조하지 않으므로 적용 순서와 무관
+     * 이미 같은 값이면 0행 → 완료 개수가 두 번 반영되지 않음
+     */
+    @Modifying
+    @Query(value = "UPDATE kanban_checklist_item i JOIN kanban_card c ON c.id = i.card_id " +
+            "SET i.completed = :completed, c.checklist_done = c.checklist_done + :doneDelta " +
+            "WHERE i.id = :itemId AND i.completed <> :completed",
+            nativeQuery = true)
+    int updateCompletedWithCount(@Param("itemId") Long itemId,
+                                 @Param("completed") boolean completed,
+                                 @Param("doneDelta") int doneDelta);
+}
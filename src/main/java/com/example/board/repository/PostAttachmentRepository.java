@@ -1,9 +1,13 @@
 package com.example.board.repository;
 
 import com.example.board.entity.PostAttachment;
+import com.example.board.repository.projection.PostCountView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,4 +16,9 @@ public interface PostAttachmentRepository extends JpaRepository<PostAttachment,
     List<PostAttachment> findByPostId(Long postId);
 
     void deleteByPostId(Long postId);
+
+    // 게시글별 첨부파일 개수 (목록 페이지용)
+    @Query("SELECT a.post.id AS postId, COUNT(a) AS count FROM PostAttachment a " +
+            "WHERE a.post.id IN :postIds GROUP BY a.post.id")
+    List<PostCountView> countByPostIds(@Param("postIds") Collection<Long> postIds);
 }
\ No newline at end of file
@@ -4,8 +4,13 @@ import com.example.board.entity.Post;
 import com.example.board.entity.PostLike;
 import com.example.board.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -22,4 +27,19 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     boolean existsByPostIdAndUserId(Long postId, Long userId);
     void deleteByPostIdAndUserId(Long postId, Long userId);
     long countByPostId(Long postId);
-}
\ No newline at end of file
+
+    // 목록 페이지용: 주어진 게시글 중 사용자가 좋아요한 게시글 ID를 한 번에 조회
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId AND pl.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    // ✅ 좋아요 토글용 (엔티티 로딩 없이 UNIQUE(post_id, user_id) 기준으로 처리)
+    // 이미 있으면 무시 → 0 반환 (존재하지 않는 게시글도 경고로 처리되어 0 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_likes (post_id, user_id, created_at) VALUES (:postId, :userId, NOW())",
+            nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId AND pl.user.id = :userId")
+    int deleteLike(@Param("postId") Long postId, @Param("userId") Long userId);
+}
@@ -2,21 +2,36 @@ package com.example.board.repository;
 
 import com.example.board.entity.Category;
 import com.example.board.entity.Post;
+import com.example.board.repository.projection.PostLikeTargetView;
+import com.example.board.repository.projection.PostSearchHit;
+import com.example.board.repository.projection.PostTagView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    // ✅ 목록 조회 쿼리는 author/category/team을 함께 로딩 (N+1 방지)
+    @Override
+    @EntityGraph(attributePaths = {"author", "category", "team"})
+    Page<Post> findAll(Pageable pageable);
+
     // 카테고리별 조회
     Page<Post> findByCategory(Category category, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"author", "category", "team"})
     Page<Post> findByCategoryId(Long categoryId, Pageable pageable);
 
     // 태그별 조회
@@ -26,20 +41,24 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT DISTINCT p FROM Post p JOIN p.tags t WHERE t.id IN :tagIds")
     Page<Post> findByTagIdIn(@Param("tagIds") List<Long> tagIds, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"author", "category", "team"})
     @Query("SELECT DISTINCT p FROM Post p JOIN p.tags t WHERE t.name = :tagName")
     Page<Post> findByTagName(@Param("tagName") String tagName, Pageable pageable);
 
     // 카테고리 + 태그 필터
+    @EntityGraph(attributePaths = {"author", "category", "team"})
     @Query("SELECT DISTINCT p FROM Post p JOIN p.tags t WHERE p.category.id = :categoryId AND t.name = :tagName")
     Page<Post> findByCategoryIdAndTagName(@Param("categoryId") Long categoryId, @Param("tagName") String tagName, Pageable pageable);
 
     // ✅ 검색 쿼리 추가 (제목 + 내용)
+    @EntityGraph(attributePaths = {"author", "category", "team"})
     @Query("SELECT p FROM Post p WHERE " +
             "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     Page<Post> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
     // ✅ 검색 + 카테고리 필터
+    @EntityGraph(attributePaths = {"author", "category", "team"})
     @Query("SELECT p FROM Post p WHERE p.category.id = :categoryId AND (" +
             "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')))")
@@ -48,6 +67,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
                                             Pageable pageable);
 
     // ✅ 검색 + 태그 필터
+    @EntityGraph(attributePaths = {"author", "category", "team"})
     @Query("SELECT DISTINCT p FROM Post p JOIN p.tags t WHERE t.name = :tagName AND (" +
             "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')))")
@@ -56,6 +76,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
                                          Pageable pageable);
 
     // ✅ 검색 + 카테고리 + 태그 필터
+    @EntityGraph(attributePaths = {"author", "category", "team"})
     @Query("SELECT DISTINCT p FROM Post p JOIN p.tags t WHERE p.category.id = :categoryId AND t.name = :tagName AND (" +
             "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')))")
@@ -64,4 +85,143 @@ public interface PostRepository extends JpaRepository<Post, Long> {
                                                       @Param("tagName") String tagName,
                                                       Pageable pageable);
 
-}
\ No newline at end of file
+    // ✅ 목록 페이지의 태그를 게시글 ID 기준으로 한 번에 조회
+    @Query("SELECT p.id AS postId, t.id AS tagId, t.name AS name, t.useCount AS useCount " +
+            "FROM Post p JOIN p.tags t WHERE p.id IN :postIds")
+    List<PostTagView> findTagsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // ✅ 커서(keyset) 페이지네이션: (createdAt, id) 기준, COUNT 쿼리 없음
+    @EntityGraph(attributePaths = {"author", "category", "team"})
+    @Query("SELECT p FROM Post p WHERE " +
+            "(:categoryId IS NULL OR p.category.id = :categoryId) AND " +
+            "(:tagName IS NULL OR EXISTS (SELECT 1 FROM Post tp JOIN tp.tags t WHERE tp.id = p.id AND t.name = :tagName)) AND " +
+            "(:keyword IS NULL OR " +
+            "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+            "(:cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt OR " +
+            "(p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findByCursor(@Param("categoryId") Long categoryId,
+                            @Param("tagName") String tagName,
+                            @Param("keyword") String keyword,
+                            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                            @Param("cursorId") Long cursorId,
+                            Pageable pageable);
+
+    // ✅ 목록 로딩용: ID 목록으로 author/category/team 함께 조회
+    @EntityGraph(attributePaths = {"author", "category", "team"})
+    List<Post> findByIdIn(Collection<Long> ids);
+
+    // ✅ 조회수 일괄 증가 (PostViewCountService에서 주기적으로 호출)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Post p SET p.views = p.views + :delta WHERE p.id IN :postIds")
+    int incrementViews(@Param("postIds") Collection<Long> postIds, @Param("delta") int delta);
+
+    // ✅ 좋아요 수 상대 증감 (동시 토글에도 유실 없음)
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postId")
+    int incrementLikeCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :postId AND p.likeCount > 0")
+    int decrementLikeCount(@Param("postId") Long postId);
+
+    // ✅ 좋아요 토글 전 게시글 행 배타 잠금
+    // post_likes INSERT의 FK 공유 잠금 → like_count UPDATE 배타 잠금 순서면 동시 토글끼리 교착 → 먼저 배타 잠금
+    @Query(value = "SELECT id, title, content, like_count AS likeCount FROM posts WHERE id = :postId FOR UPDATE",
+            nativeQuery = true)
+    Optional<PostLikeTargetView> lockForLike(@Param("postId") Long postId);
+
+    // ✅ 댓글 수 상대 증감 (게시글 로딩 없이, 동시 댓글 작성에도 유실 없음)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId")
+    int incrementCommentCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :postId AND p.commentCount > 0")
+    int decrementCommentCount(@Param("postId") Long postId);
+
+    @Query("SELECT MAX(p.id) FROM Post p")
+    Optional<Long> findMaxId();
+
+    // id 구간 [fromId, toId]의 comment_count를 comments 실제 개수로 맞춤 → 바뀐 행 수 반환
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE posts p " +
+            "LEFT JOIN (SELECT c.post_id, COUNT(*) AS cnt FROM comments c " +
+            "           WHERE c.post_id BETWEEN :fromId AND :toId GROUP BY c.post_id) c ON c.post_id = p.id " +
+            "SET p.comment_count = COALESCE(c.cnt, 0) " +
+            "WHERE p.id BETWEEN :fromId AND :toId AND p.comment_count <> COALESCE(c.cnt, 0)",
+            nativeQuery = true)
+    int reconcileCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 인메모리 검색 인덱스 복구용
+    @Query("SELECT p.id FROM Post p")
+    List<Long> findAllIds();
+
+    // 주어진 ID 중 존재하는 게시글 ID (조회수 반영 시 삭제된 게시글 정리용)
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :postIds")
+    List<Long> findExistingIds(@Param("postIds") Collection<Long> postIds);
+
+    @EntityGraph(attributePaths = {"category"})
+    List<Post> findByUpdatedAtAfter(LocalDateTime updatedAt);
+
+    // ========================================
+    // 전문 검색 (FULLTEXT ngram 인덱스, V11)
+    // keyword는 BOOLEAN MODE 검색식, 정렬은 Pageable로 지정 (relevance 별칭 사용 가능)
+    // ========================================
+
+    @Query(value = "SELECT p.id AS id, MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE) AS relevance " +
+            "FROM posts p " +
+            "WHERE MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE)",
+            countQuery = "SELECT COUNT(*) FROM posts p " +
+                    "WHERE MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<PostSearchHit> fullTextSearch(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = "SELECT p.id AS id, MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE) AS relevance " +
+            "FROM posts p " +
+            "WHERE p.category_id = :categoryId " +
+            "AND MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE)",
+            countQuery = "SELECT COUNT(*) FROM posts p " +
+                    "WHERE p.category_id = :categoryId " +
+                    "AND MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<PostSearchHit> fullTextSearchByCategoryId(@Param("keyword") String keyword,
+                                                   @Param("categoryId") Long categoryId,
+                                                   Pageable pageable);
+
+    @Query(value = "SELECT p.id AS id, MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE) AS relevance " +
+            "FROM posts p " +
+            "JOIN post_tags pt ON pt.post_id = p.id " +
+            "JOIN tags t ON t.id = pt.tag_id " +
+            "WHERE t.name = :tagName " +
+            "AND MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE)",
+            countQuery = "SELECT COUNT(*) FROM posts p " +
+                    "JOIN post_tags pt ON pt.post_id = p.id " +
+                    "JOIN tags t ON t.id = pt.tag_id " +
+                    "WHERE t.name = :tagName " +
+                    "AND MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<PostSearchHit> fullTextSearchByTagName(@Param("keyword") String keyword,
+                                                @Param("tagName") String tagName,
+                                                Pageable pageable);
+
+    @Query(value = "SELECT p.id AS id, MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE) AS relevance " +
+            "FROM posts p " +
+            "JOIN post_tags pt ON pt.post_id = p.id " +
+            "JOIN tags t ON t.id = pt.tag_id " +
+            "WHERE p.category_id = :categoryId AND t.name = :tagName " +
+            "AND MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE)",
+            countQuery = "SELECT COUNT(*) FROM posts p " +
+                    "JOIN post_tags pt ON pt.post_id = p.id " +
+                    "JOIN tags t ON t.id = pt.tag_id " +
+                    "WHERE p.category_id = :categoryId AND t.name = :tagName " +
+                    "AND MATCH(p.title, p.content) AGAINST (:keyword IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<PostSearchHit> fullTextSearchByCategoryIdAndTagName(@Param("keyword") String keyword,
+                                                             @Param("categoryId") Long categoryId,
+                                                             @Param("tagName") String tagName,
+                                                             Pageable pageable);
+}
@@ -1,9 +1,17 @@
 package com.example.board.repository;
 
 import com.example.board.entity.Tag;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +21,13 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     // 이름으로 태그 찾기
     Optional<Tag> findByName(String name);
 
+    // ✅ 이름 목록으로 한 번에 조회 (태그 일괄 조회/생성용)
+    List<Tag> findByNameIn(Collection<String> names);
+
+    // INSERT IGNORE 직후 재조회용: 잠금 읽기라 다른 트랜잭션이 방금 커밋한 태그도 보임
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    List<Tag> findLockedByNameIn(Collection<String> names);
+
     // 이름에 포함된 태그 검색
     List<Tag> findByNameContainingIgnoreCase(String keyword);
 
@@ -21,4 +36,43 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
 
     // 사용 횟수가 0보다 큰 태그만 조회
     List<Tag> findByUseCountGreaterThan(Integer count);
-}
\ No newline at end of file
+
+    // ✅ 사용 횟수 상대 증감 (태그 엔티티/게시글 컬렉션 로딩 없이, 동시 수정에도 유실 없음)
+    @Modifying
+    @Query("UPDATE Tag t SET t.useCount = t.useCount + 1 WHERE t.id IN :tagIds")
+    int incrementUseCount(@Param("tagIds") Collection<Long> tagIds);
+
+    @Modifying
+    @Query("UPDATE Tag t SET t.useCount = t.useCount - 1 WHERE t.id IN :tagIds AND t.useCount > 0")
+    int decrementUseCount(@Param("tagIds") Collection<Long> tagIds);
+
+    // ========================================
+    // 태그 정리 작업 (TagService.cleanUpTags, 구간마다 짧은 트랜잭션)
+    // ========================================
+
+    @Query("SELECT MAX(t.id) FROM Tag t")
+    Optional<Long> findMaxId();
+
+    // id 구간 [fromId, toId]의 use_count를 post_tags 실제 개수로 맞춤 → 바뀐 행 수 반환
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE tags t " +
+            "LEFT JOIN (SELECT pt.tag_id, COUNT(*) AS cnt FROM post_tags pt " +
+            "           WHERE pt.tag_id BETWEEN :fromId AND :toId GROUP BY pt.tag_id) c ON c.tag_id = t.id " +
+            "SET t.use_count = COALESCE(c.cnt, 0) " +
+            "WHERE t.id BETWEEN :fromId AND :toId AND t.use_count <> COALESCE(c.cnt, 0)",
+            nativeQuery = true)
+    int reconcileUseCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 사용되지 않는 태그 id (PK 순서로 afterId 다음부터)
+    @Query("SELECT t.id FROM Tag t WHERE t.useCount = 0 AND t.id > :afterId ORDER BY t.id")
+    List<Long> findUnusedIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 조회 이후 다시 사용된 태그는 제외하고 삭제
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM tags WHERE id IN (:tagIds) AND use_count = 0 " +
+            "AND NOT EXISTS (SELECT 1 FROM post_tags pt WHERE pt.tag_id = tags.id)",
+            nativeQuery = true)
+    int deleteUnusedByIds(@Param("tagIds") Collection<Long> tagIds);
+}
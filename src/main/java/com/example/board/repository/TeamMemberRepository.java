@@ -2,6 +2,8 @@ package com.example.board.repository;
 
 import com.example.board.entity.TeamMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,6 +22,13 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
      */
     Optional<TeamMember> findByTeam_IdAndUser_Id(Long teamId, Long userId);
 
+    /**
+     * 팀 ID와 사용자 ID로 역할만 조회 (TeamMembershipCache 로딩용)
+     */
+    @Query("SELECT m.role FROM TeamMember m WHERE m.team.id = :teamId AND m.user.id = :userId")
+    Optional<TeamMember.TeamRole> findRoleByTeamIdAndUserId(@Param("teamId") Long teamId,
+                                                            @Param("userId") Long userId);
+
     /**
      * 팀 ID와 사용자 ID로 멤버 존재 여부 확인
      */
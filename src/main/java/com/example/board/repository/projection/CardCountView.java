@@ -0,0 +1,11 @@
+package com.example.board.repository.projection;
+
+/**
+ * 칸반 카드 ID별 집계 결과 프로젝션
+ */
+public interface CardCountView {
+
+    Long getCardId();
+
+    Long getCount();
+}
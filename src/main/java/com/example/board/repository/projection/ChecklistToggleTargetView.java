@@ -0,0 +1,19 @@
+package com.example.board.repository.projection;
+
+/**
+ * 체크리스트 토글 대상 항목 + 카드 진행률 프로젝션
+ */
+public interface ChecklistToggleTargetView {
+
+    Long getId();
+
+    String getText();
+
+    Boolean getCompleted();
+
+    Integer getPosition();
+
+    Integer getChecklistTotal();
+
+    Integer getChecklistDone();
+}
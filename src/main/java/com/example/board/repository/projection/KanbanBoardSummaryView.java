@@ -0,0 +1,31 @@
+package com.example.board.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 칸반 보드 목록용 프로젝션 (보드 + 팀 이름 + 컬럼별 카드 수)
+ */
+public interface KanbanBoardSummaryView {
+
+    Long getId();
+
+    Long getTeamId();
+
+    String getTeamName();
+
+    String getName();
+
+    String getDescription();
+
+    Long getRevision();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getTodoCount();
+
+    Long getInProgressCount();
+
+    Long getDoneCount();
+}
@@ -0,0 +1,11 @@
+package com.example.board.repository.projection;
+
+/**
+ * 게시글 ID별 집계 결과 프로젝션
+ */
+public interface PostCountView {
+
+    Long getPostId();
+
+    Long getCount();
+}
@@ -0,0 +1,15 @@
+package com.example.board.repository.projection;
+
+/**
+ * 좋아요 토글 대상 게시글 (행 잠금 조회 결과) 프로젝션
+ */
+public interface PostLikeTargetView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getContent();
+
+    Integer getLikeCount();
+}
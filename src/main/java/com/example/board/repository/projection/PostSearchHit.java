@@ -0,0 +1,11 @@
+package com.example.board.repository.projection;
+
+/**
+ * 전문 검색 결과 프로젝션 (게시글 ID + 관련도 점수)
+ */
+public interface PostSearchHit {
+
+    Long getId();
+
+    Double getRelevance();
+}
@@ -0,0 +1,15 @@
+package com.example.board.repository.projection;
+
+/**
+ * 게시글 목록용 태그 프로젝션 (게시글 ID + 태그)
+ */
+public interface PostTagView {
+
+    Long getPostId();
+
+    Long getTagId();
+
+    String getName();
+
+    Integer getUseCount();
+}
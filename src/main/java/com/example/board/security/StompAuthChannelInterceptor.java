@@ -0,0 +1,44 @@
+package com.example.board.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+
+/**
+ * STOMP CONNECT 프레임의 Authorization 헤더(JWT)로 세션 사용자 설정
+ * 토큰이 없으면 익명 세션 (공동 편집 구독은 그대로 허용, 칸반 이동 등 저장하는 요청만 거부)
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+
+        String token = jwtTokenProvider.resolveToken(accessor.getFirstNativeHeader("Authorization"));
+        if (token != null && jwtTokenProvider.validateToken(token)) {
+            UserPrincipal userPrincipal = UserPrincipal.builder()
+                    .id(jwtTokenProvider.getUserIdFromToken(token))
+                    .email(jwtTokenProvider.getEmailFromToken(token))
+                    .username(jwtTokenProvider.getUsernameFromToken(token))
+                    .build();
+
+            accessor.setUser(new UsernamePasswordAuthenticationToken(userPrincipal, null, new ArrayList<>()));
+        }
+        return message;
+    }
+}
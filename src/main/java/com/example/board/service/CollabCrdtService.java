@@ -0,0 +1,412 @@
+package com.example.board.service;
+
+import com.example.board.dto.websocket.CollaborativeEditMessage;
+import com.example.board.entity.CollabRoom;
+import com.example.board.repository.CollabRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공동 편집 방 CRDT 문서 (방별 RgaDocument를 메모리에 유지)
+ *
+ * - 클라이언트는 로컬에 바로 적용한 CRDT 업데이트(바이너리, Base64)를 보냄 → 서버는 변환 없이 병합만
+ * - 새로 적용된 부분만 방 구독자에게 브로드캐스트 (이미 받은 연산은 무시 → 재전송해도 안전)
+ * - 입장/재접속 시 클라이언트 상태 벡터를 받아 빠진 업데이트만 해당 세션에 전송 (SYNC)
+ * - epoch: 문서를 DB 내용에서 다시 만들 때마다 바뀜 → 이전 epoch 클라이언트는 전체 동기화
+ * - DB에는 텍스트만 주기적으로 저장 (변경된 방만), 오래 안 쓰인 방은 메모리에서 제거
+ * - collab.engine=crdt (기본) 일 때 사용, ot면 CollabOtService
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CollabCrdtService {
+
+    private static final String TOPIC = "/topic/collab-room/";
+    private static final String USER_QUEUE = "/queue/collab-room";
+
+    private static final AtomicLong LAST_EPOCH = new AtomicLong();
+
+    private final CollabRoomRepository collabRoomRepository;
+    private final TeamMembershipCache membershipCache;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${collab.engine:crdt}")
+    private String engine;
+
+    @Value("${collab.crdt.idle-timeout:600000}")
+    private long idleTimeoutMillis;
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+
+    /**
+     * 공동 편집 방 문서 엔진으로 CRDT 사용 여부 (collab.engine=crdt, 기본)
+     */
+    public boolean isEnabled() {
+        return "crdt".equalsIgnoreCase(engine);
+    }
+
+    /**
+     * 입장/재접속: 세션에 클라이언트 id를 부여하고 빠진 업데이트 전송
+     * 같은 epoch의 기존 클라이언트 id를 보내면 그대로 이어서 사용 (보내지 못한 로컬 연산 재전송용)
+     * 단, 같은 사용자에게 발급된 id이고 다른 세션이 쓰고 있지 않을 때만
+     * (두 세션이 같은 id로 보내면 (client, seq)가 겹쳐 한쪽 연산이 중복으로 버려지고 문서가 갈라짐)
+     */
+    public void sync(Long roomId, CollaborativeEditMessage request, Long userId, String sessionId) {
+        Document document;
+        try {
+            document = open(roomId, userId);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            sendSync(roomId, sessionId, null, null, null, e.getMessage());
+            return;
+        }
+
+        synchronized (document) {
+            boolean sameEpoch = request.getEpoch() != null && request.getEpoch() == document.epoch;
+
+            Long clientId = document.sessions.get(sessionId);
+            if (clientId == null) {
+                Long requested = parseClientId(request.getClientId());
+                boolean reusable = sameEpoch && requested != null
+                        && document.crdt.isKnownClient(requested)
+                        && userId.equals(document.clientOwners.get(requested))
+                        && !document.sessions.containsValue(requested);
+                clientId = reusable ? requested : document.crdt.assignClientId();
+                document.sessions.put(sessionId, clientId);
+                document.clientOwners.put(clientId, userId);
+            }
+
+            Map<Long, Long> remote = null;
+            if (sameEpoch && request.getStateVector() != null) {
+                try {
+                    remote = RgaDocument.decodeStateVector(Base64.getDecoder().decode(request.getStateVector()));
+                } catch (IllegalArgumentException e) {
+                    log.debug("상태 벡터 형식 오류 → 전체 동기화 - roomId: {}, {}", roomId, e.getMessage());
+                }
+            }
+
+            sendSync(roomId, sessionId, document, clientId, document.crdt.missingSince(remote), null);
+        }
+    }
+
+    /**
+     * 클라이언트 업데이트 병합 → 새로 적용된 부분 브로드캐스트
+     * 거절되면 (형식 오류, 빠진 연산 등) 앞부분까지만 적용하고 해당 세션에 SYNC
+     */
+    public void applyUpdate(Long roomId, CollaborativeEditMessage message, Long userId, String username,
+                            String sessionId) {
+        Document document;
+        try {
+            document = open(roomId, userId);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            sendSync(roomId, sessionId, null, null, null, e.getMessage());
+            return;
+        }
+
+        synchronized (document) {
+            Long clientId = document.sessions.get(sessionId);
+            if (clientId == null) {
+                sendSync(roomId, sessionId, document, null, List.of(), "SYNC로 먼저 클라이언트 id를 받아야 합니다");
+                return;
+            }
+
+            Map<Long, Long> before = new HashMap<>(document.crdt.stateVector());
+            String reason = null;
+            try {
+                byte[] update = Base64.getDecoder().decode(message.getUpdate() != null ? message.getUpdate() : "");
+                document.crdt.applyUpdate(update, clientId);
+            } catch (IllegalArgumentException e) {
+                reason = e.getMessage();
+                log.debug("공동 편집 업데이트 거절 - roomId: {}, sessionId: {}, {}", roomId, sessionId, reason);
+            }
+
+            // 실패해도 앞부분은 적용됐을 수 있음 → 적용된 만큼은 모두에게
+            List<RgaDocument.Op> applied = document.crdt.missingSince(before);
+            if (!applied.isEmpty()) {
+                broadcast(roomId, document, clientId, userId, username, applied);
+            }
+            if (reason != null) {
+                sendSync(roomId, sessionId, document, clientId, document.crdt.missingSince(null), reason);
+            }
+        }
+    }
+
+    /**
+     * 전체 내용 교체 (이전 CONTENT_CHANGE 메시지) → 서버 클라이언트의 삭제/삽입 연산으로 반영
+     */
+    public void replaceContent(Long roomId, String content, Long userId, String username, String sessionId) {
+        Document document;
+        try {
+            document = open(roomId, userId);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            sendSync(roomId, sessionId, null, null, null, e.getMessage());
+            return;
+        }
+        synchronized (document) {
+            replace(roomId, document, content != null ? content : "", userId, username);
+        }
+    }
+
+    /**
+     * REST 저장: 편집 중인 방이면 문서에 반영하고 반영된 내용을 반환, 아니면 null
+     */
+    public String replaceIfOpen(Long roomId, String content, Long userId) {
+        Document document = documents.get(roomId);
+        if (document == null) {
+            return null;
+        }
+        synchronized (document) {
+            if (document.closed) {
+                return null;
+            }
+            replace(roomId, document, content, userId, null);
+            return document.crdt.text();
+        }
+    }
+
+    /**
+     * 편집 중인 방의 현재 내용 (메모리에 없으면 null → DB 내용 사용)
+     */
+    public String currentText(Long roomId) {
+        Document document = documents.get(roomId);
+        if (document == null) {
+            return null;
+        }
+        synchronized (document) {
+            return document.closed ? null : document.crdt.text();
+        }
+    }
+
+    /**
+     * 다른 경로(REST 저장)가 content 컬럼을 쓴 뒤 문서 텍스트로 다시 저장되게 표시 (트랜잭션 안이면 커밋 후)
+     * 저장 대상인 동안은 메모리에서 제거되지 않으므로 오래된 DB 내용으로 다시 로딩되지 않음
+     */
+    public void markDirtyAfterCommit(Long roomId) {
+        afterCommit(() -> {
+            Document document = documents.get(roomId);
+            if (document != null) {
+                synchronized (document) {
+                    document.dirty = true;
+                }
+            }
+        });
+    }
+
+    /**
+     * 발행/삭제된 방 문서 닫기 (트랜잭션 안이면 커밋 후)
+     */
+    public void closeAfterCommit(Long roomId) {
+        afterCommit(() -> {
+            Document document = documents.remove(roomId);
+            if (document != null) {
+                synchronized (document) {
+                    document.closed = true;
+                }
+            }
+        });
+    }
+
+    /**
+     * 다른 엔진의 메시지(OPERATION) → 해당 세션에 사유만 담은 SYNC
+     */
+    public void rejectUnsupported(Long roomId, String sessionId) {
+        sendSync(roomId, sessionId, null, null, null, "이 서버는 CRDT 편집(UPDATE/SYNC)만 지원합니다");
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        for (Document document : documents.values()) {
+            synchronized (document) {
+                document.sessions.remove(event.getSessionId());
+            }
+        }
+    }
+
+    /**
+     * 변경된 문서 텍스트 DB 저장 + 오래 안 쓰인 문서 제거
+     */
+    @Scheduled(fixedDelayString = "${collab.crdt.flush-interval:5000}")
+    public void flush() {
+        if (!isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int saved = 0;
+
+        for (Map.Entry<Long, Document> entry : documents.entrySet()) {
+            Long roomId = entry.getKey();
+            Document document = entry.getValue();
+
+            String text = null;
+            synchronized (document) {
+                if (document.dirty) {
+                    text = document.crdt.text();
+                    document.dirty = false;
+                } else if (now - document.lastAccess > idleTimeoutMillis) {
+                    // 저장할 것 없고 오래 안 쓰임 → 제거 (잡고 있던 요청은 closed 보고 다시 로딩)
+                    document.closed = true;
+                    documents.remove(roomId, document);
+                }
+            }
+            if (text == null) {
+                continue;
+            }
+
+            try {
+                collabRoomRepository.updateContent(roomId, text, LocalDateTime.now());
+                saved++;
+            } catch (Exception e) {
+                log.error("공동 편집 내용 저장 실패 - roomId: {}", roomId, e);
+                synchronized (document) {
+                    document.dirty = true;
+                }
+            }
+        }
+
+        if (saved > 0) {
+            log.debug("공동 편집 내용 저장 - {}개 방", saved);
+        }
+    }
+
+    // 잠금 안에서 호출
+    private void replace(Long roomId, Document document, String content, Long userId, String username) {
+        List<RgaDocument.Op> applied = document.crdt.replaceText(content);
+        if (!applied.isEmpty()) {
+            broadcast(roomId, document, RgaDocument.SERVER_CLIENT, userId, username, applied);
+        }
+    }
+
+    // 잠금 안에서 호출 (적용 순서 = 전송 순서)
+    private void broadcast(Long roomId, Document document, Long clientId, Long userId, String username,
+                           List<RgaDocument.Op> applied) {
+        document.dirty = true;
+        document.lastAccess = System.currentTimeMillis();
+
+        messagingTemplate.convertAndSend(TOPIC + roomId, CollaborativeEditMessage.builder()
+                .type(CollaborativeEditMessage.MessageType.UPDATE)
+                .postId(roomId)
+                .userId(userId)
+                .username(username)
+                .epoch(document.epoch)
+                .clientId(clientId.toString())
+                .update(Base64.getEncoder().encodeToString(RgaDocument.encodeUpdate(applied)))
+                .timestamp(System.currentTimeMillis())
+                .build());
+    }
+
+    /**
+     * 방 문서 (없으면 DB 텍스트로 새로 만듦), 팀원 확인 포함
+     */
+    private Document open(Long roomId, Long userId) {
+        while (true) {
+            Document document = documents.get(roomId);
+            if (document == null) {
+                CollabRoom room = collabRoomRepository.findByIdWithTeam(roomId)
+                        .orElseThrow(() -> new IllegalArgumentException("공동 편집 방을 찾을 수 없습니다."));
+                if (room.getIsPublished()) {
+                    throw new IllegalStateException("이미 게시글로 발행된 방입니다.");
+                }
+                Document loaded = new Document(room.getTeam().getId(), room.getContent());
+                document = documents.putIfAbsent(roomId, loaded);
+                if (document == null) {
+                    document = loaded;
+                }
+            }
+
+            if (!membershipCache.isMember(document.teamId, userId)) {
+                throw new IllegalArgumentException("팀원만 접근할 수 있습니다.");
+            }
+
+            synchronized (document) {
+                if (!document.closed) {
+                    document.lastAccess = System.currentTimeMillis();
+                    return document;
+                }
+            }
+            documents.remove(roomId, document);
+        }
+    }
+
+    // 해당 세션에만 (/user/queue/collab-room)
+    private void sendSync(Long roomId, String sessionId, Document document, Long clientId,
+                          List<RgaDocument.Op> missing, String reason) {
+        if (sessionId == null) {
+            return;
+        }
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+
+        CollaborativeEditMessage.CollaborativeEditMessageBuilder message = CollaborativeEditMessage.builder()
+                .type(CollaborativeEditMessage.MessageType.SYNC)
+                .postId(roomId)
+                .clientId(clientId != null ? clientId.toString() : null)
+                .reason(reason)
+                .timestamp(System.currentTimeMillis());
+        if (document != null) {
+            message.epoch(document.epoch)
+                    .stateVector(Base64.getEncoder().encodeToString(
+                            RgaDocument.encodeStateVector(document.crdt.stateVector())))
+                    .update(Base64.getEncoder().encodeToString(RgaDocument.encodeUpdate(missing)));
+        }
+
+        messagingTemplate.convertAndSendToUser(sessionId, USER_QUEUE, message.build(), headers.getMessageHeaders());
+    }
+
+    // 메시지의 clientId는 문자열 (OT 엔진과 같은 필드) → 숫자가 아니면 새 id 부여
+    private static Long parseClientId(String clientId) {
+        if (clientId == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(clientId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class Document {
+        private final Long teamId;
+        private final RgaDocument crdt;
+        private final long epoch;
+        private final Map<String, Long> sessions = new HashMap<>();  // sessionId → CRDT 클라이언트 id
+        private final Map<Long, Long> clientOwners = new HashMap<>();  // 발급한 클라이언트 id → userId
+        private boolean dirty;
+        private boolean closed;
+        private long lastAccess = System.currentTimeMillis();
+
+        Document(Long teamId, String content) {
+            this.teamId = teamId;
+            this.crdt = new RgaDocument(content);
+            // 로딩 시각 기반, 같은 ms에 여러 번 로딩돼도 겹치지 않게
+            this.epoch = LAST_EPOCH.updateAndGet(last -> Math.max(last + 1, System.currentTimeMillis()));
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.example.board.service;
+
+import com.example.board.dto.websocket.CollaborativeEditMessage;
+import com.example.board.entity.CollabRoom;
+import com.example.board.repository.CollabRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공동 편집 방 OT 엔진 (방별 문서를 메모리에 유지)
+ *
+ * - 클라이언트는 전체 내용 대신 연산(TextOperation)과 기준 revision을 보냄
+ * - 기준 revision 이후 적용된 연산들에 대해 변환 → 적용 → revision 부여 → 연산만 브로드캐스트
+ * - 방마다 잠금 하나 (적용과 브로드캐스트를 같은 잠금 안에서 → 모든 구독자가 같은 순서로 받음)
+ * - 최근 연산 max-history개만 보관, 그보다 오래된 기준이면 해당 세션에 SYNC(전체 내용) 전송
+ * - DB 저장은 주기적으로 (변경된 방만), 오래 안 쓰인 방은 메모리에서 제거
+ * - collab.engine=ot 일 때만 사용 (기본은 CollabCrdtService)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CollabOtService {
+
+    private static final String TOPIC = "/topic/collab-room/";
+    private static final String USER_QUEUE = "/queue/collab-room";
+
+    private final CollabRoomRepository collabRoomRepository;
+    private final TeamMembershipCache membershipCache;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${collab.engine:crdt}")
+    private String engine;
+
+    @Value("${collab.ot.max-history:500}")
+    private int maxHistory;
+
+    @Value("${collab.ot.idle-timeout:600000}")
+    private long idleTimeoutMillis;
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+
+    /**
+     * 공동 편집 방 문서 엔진으로 OT 사용 여부 (collab.engine=ot)
+     */
+    public boolean isEnabled() {
+        return "ot".equalsIgnoreCase(engine);
+    }
+
+    /**
+     * 입장한 세션에 현재 내용 + revision 전송 (이후 연산은 이 revision 기준)
+     */
+    public void sendSnapshot(Long roomId, Long userId, String sessionId) {
+        Document document = open(roomId, userId);
+        synchronized (document) {
+            sendSync(roomId, sessionId, document.text, document.revision, null);
+        }
+    }
+
+    /**
+     * 클라이언트 연산 적용 → 변환된 연산 브로드캐스트
+     * 거절되면 (기준 revision이 너무 오래됨, 길이 불일치 등) 해당 세션에 SYNC
+     */
+    public void applyOperation(Long roomId, CollaborativeEditMessage message, Long userId, String username,
+                               String sessionId) {
+        Document document;
+        try {
+            document = open(roomId, userId);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            sendError(roomId, sessionId, e.getMessage());
+            return;
+        }
+
+        synchronized (document) {
+            try {
+                TextOperation operation = TextOperation.fromList(message.getOps());
+                long baseRevision = message.getBaseRevision() != null ? message.getBaseRevision() : -1;
+                long startRevision = document.revision - document.history.size();
+                if (baseRevision < startRevision || baseRevision > document.revision) {
+                    throw new IllegalArgumentException("기준 revision이 유효하지 않습니다: " + baseRevision);
+                }
+
+                // 기준 revision 이후 적용된 연산들에 대해 변환 (같은 위치 삽입은 새 연산이 앞)
+                int from = (int) (baseRevision - startRevision);
+                for (int i = from; i < document.history.size(); i++) {
+                    operation = TextOperation.transform(operation, document.history.get(i))[0];
+                }
+
+                apply(roomId, document, operation, userId, username, message.getClientId(), message.getCursorPosition());
+            } catch (IllegalArgumentException e) {
+                log.debug("공동 편집 연산 거절 - roomId: {}, sessionId: {}, {}", roomId, sessionId, e.getMessage());
+                sendSync(roomId, sessionId, document.text, document.revision, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 전체 내용 교체 (이전 CONTENT_CHANGE 메시지, REST 저장)
+     * 현재 내용과의 차이를 연산 하나로 만들어 최신 revision에 적용
+     */
+    public void replaceContent(Long roomId, String content, Long userId, String username, String sessionId) {
+        Document document;
+        try {
+            document = open(roomId, userId);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            sendError(roomId, sessionId, e.getMessage());
+            return;
+        }
+        synchronized (document) {
+            try {
+                apply(roomId, document, TextOperation.diff(document.text, content != null ? content : ""),
+                        userId, username, null, null);
+            } catch (IllegalArgumentException e) {
+                sendError(roomId, sessionId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * REST 저장: 편집 중인 방이면 문서에 반영하고 반영된 내용을 반환, 아니면 null
+     */
+    public String replaceIfOpen(Long roomId, String content, Long userId) {
+        Document document = documents.get(roomId);
+        if (document == null) {
+            return null;
+        }
+        synchronized (document) {
+            if (document.closed) {
+                return null;
+            }
+            apply(roomId, document, TextOperation.diff(document.text, content), userId, null, null, null);
+            return document.text;
+        }
+    }
+
+    /**
+     * 편집 중인 방의 현재 내용 (메모리에 없으면 null → DB 내용 사용)
+     */
+    public String currentText(Long roomId) {
+        Document document = documents.get(roomId);
+        if (document == null) {
+            return null;
+        }
+        synchronized (document) {
+            return document.closed ? null : document.text;
+        }
+    }
+
+    /**
+     * 다른 경로(REST 저장)가 content 컬럼을 쓴 뒤 문서 텍스트로 다시 저장되게 표시 (트랜잭션 안이면 커밋 후)
+     */
+    public void markDirtyAfterCommit(Long roomId) {
+        afterCommit(() -> {
+            Document document = documents.get(roomId);
+            if (document != null) {
+                synchronized (document) {
+                    document.dirty = true;
+                }
+            }
+        });
+    }
+
+    /**
+     * 발행/삭제된 방 문서 닫기 (트랜잭션 안이면 커밋 후)
+     */
+    public void closeAfterCommit(Long roomId) {
+        afterCommit(() -> {
+            Document document = documents.remove(roomId);
+            if (document != null) {
+                synchronized (document) {
+                    document.closed = true;
+                }
+            }
+        });
+    }
+
+    /**
+     * 다른 엔진의 메시지(UPDATE/SYNC) → 해당 세션에 사유만 담은 SYNC
+     */
+    public void rejectUnsupported(Long roomId, String sessionId) {
+        sendError(roomId, sessionId, "이 서버는 OT 편집(OPERATION)만 지원합니다");
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 변경된 문서 DB 저장 + 오래 안 쓰인 문서 제거
+     */
+    @Scheduled(fixedDelayString = "${collab.ot.flush-interval:5000}")
+    public void flush() {
+        if (!isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int saved = 0;
+
+        for (Map.Entry<Long, Document> entry : documents.entrySet()) {
+            Long roomId = entry.getKey();
+            Document document = entry.getValue();
+
+            String text = null;
+            synchronized (document) {
+                if (document.dirty) {
+                    text = document.text;
+                    document.dirty = false;
+                } else if (now - document.lastAccess > idleTimeoutMillis) {
+                    // 저장할 것 없고 오래 안 쓰임 → 제거 (잡고 있던 요청은 closed 보고 다시 로딩)
+                    document.closed = true;
+                    documents.remove(roomId, document);
+                }
+            }
+            if (text == null) {
+                continue;
+            }
+
+            try {
+                collabRoomRepository.updateContent(roomId, text, LocalDateTime.now());
+                saved++;
+            } catch (Exception e) {
+                log.error("공동 편집 내용 저장 실패 - roomId: {}", roomId, e);
+                synchronized (document) {
+                    document.dirty = true;
+                }
+            }
+        }
+
+        if (saved > 0) {
+            log.debug("공동 편집 내용 저장 - {}개 방", saved);
+        }
+    }
+
+    // 잠금 안에서 호출
+    private void apply(Long roomId, Document document, TextOperation operation, Long userId, String username,
+                       String clientId, Integer cursorPosition) {
+        if (document.closed) {
+            throw new IllegalArgumentException("편집이 종료된 방입니다.");
+        }
+        if (operation.getBaseLength() != document.text.length()) {
+            throw new IllegalArgumentException("연산 길이가 문서 길이와 다릅니다");
+        }
+        if (!operation.isNoop()) {
+            document.text = operation.apply(document.text);
+            document.revision++;
+            document.history.add(operation);
+            if (document.history.size() > maxHistory) {
+                document.history.subList(0, document.history.size() - maxHistory).clear();
+            }
+            document.dirty = true;
+        }
+        document.lastAccess = System.currentTimeMillis();
+
+        // 빈 연산도 보낸 클라이언트의 확인 응답으로 브로드캐스트
+        messagingTemplate.convertAndSend(TOPIC + roomId, CollaborativeEditMessage.builder()
+                .type(CollaborativeEditMessage.MessageType.OPERATION)
+                .postId(roomId)
+                .userId(userId)
+                .username(username)
+                .baseRevision(operation.isNoop() ? document.revision : document.revision - 1)
+                .revision(document.revision)
+                .ops(operation.toList())
+                .clientId(clientId)
+                .cursorPosition(cursorPosition)
+                .timestamp(System.currentTimeMillis())
+                .build());
+    }
+
+    /**
+     * 방 문서 (없으면 DB에서 로딩), 팀원 확인 포함
+     */
+    private Document open(Long roomId, Long userId) {
+        while (true) {
+            Document document = documents.get(roomId);
+            if (document == null) {
+                CollabRoom room = collabRoomRepository.findByIdWithTeam(roomId)
+                        .orElseThrow(() -> new IllegalArgumentException("공동 편집 방을 찾을 수 없습니다."));
+                if (room.getIsPublished()) {
+                    throw new IllegalStateException("이미 게시글로 발행된 방입니다.");
+                }
+                Document loaded = new Document(room.getTeam().getId(),
+                        room.getContent() != null ? room.getContent() : "");
+                document = documents.putIfAbsent(roomId, loaded);
+                if (document == null) {
+                    document = loaded;
+                }
+            }
+
+            if (!membershipCache.isMember(document.teamId, userId)) {
+                throw new IllegalArgumentException("팀원만 접근할 수 있습니다.");
+            }
+
+            synchronized (document) {
+                if (!document.closed) {
+                    document.lastAccess = System.currentTimeMillis();
+                    return document;
+                }
+            }
+            documents.remove(roomId, document);
+        }
+    }
+
+    private void sendError(Long roomId, String sessionId, String reason) {
+        sendSync(roomId, sessionId, null, null, reason);
+    }
+
+    // 해당 세션에만 (/user/queue/collab-room)
+    private void sendSync(Long roomId, String sessionId, String text, Long revision, String reason) {
+        if (sessionId == null) {
+            return;
+        }
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+
+        messagingTemplate.convertAndSendToUser(sessionId, USER_QUEUE, CollaborativeEditMessage.builder()
+                .type(CollaborativeEditMessage.MessageType.SYNC)
+                .postId(roomId)
+                .content(text)
+                .revision(revision)
+                .reason(reason)
+                .timestamp(System.currentTimeMillis())
+                .build(), headers.getMessageHeaders());
+    }
+
+    private static class Document {
+        private final Long teamId;
+        private final List<TextOperation> history = new ArrayList<>();  // 최근 연산 (마지막이 revision)
+        private String text;
+        private long revision;
+        private boolean dirty;
+        private boolean closed;
+        private long lastAccess = System.currentTimeMillis();
+
+        Document(Long teamId, String text) {
+            this.teamId = teamId;
+            this.text = text;
+            // 로딩 시각 기반에서 시작 → 제거/재시작 전 revision 기준으로 온 연산은 범위 밖이라 SYNC
+            this.revision = System.currentTimeMillis() << 10;
+        }
+    }
+}
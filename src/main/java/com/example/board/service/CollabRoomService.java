@@ -4,6 +4,7 @@ import com.example.board.dto.collab.CollabRoomCreateRequest;
 import com.example.board.dto.collab.CollabRoomContentRequest;
 import com.example.board.dto.collab.CollabRoomPublishRequest;
 import com.example.board.dto.collab.CollabRoomResponse;
+import com.example.board.dto.collab.PresenceResponse;
 import com.example.board.entity.*;
 import com.example.board.repository.*;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,12 @@ public class CollabRoomService {
     private final PostRepository postRepository;
     private final CategoryRepository categoryRepository;
     private final TagService tagService;
+    private final PostSearchIndex postSearchIndex;
+    private final PostListCache postListCache;
+    private final TeamMembershipCache membershipCache;
+    private final PresenceRegistry presenceRegistry;
+    private final CollabCrdtService collabCrdtService;
+    private final CollabOtService collabOtService;
 
     public List<CollabRoomResponse> getMyRooms(Long userId) {
         return collabRoomRepository.findActiveRoomsByUserId(userId).stream()
@@ -36,12 +43,23 @@ public class CollabRoomService {
         return CollabRoomResponse.from(room);
     }
 
+    /**
+     * 방 접속자 목록 (메모리, DB 조회는 권한 확인뿐)
+     */
+    public List<PresenceResponse> getPresence(Long roomId, Long userId) {
+        findRoomWithMemberCheck(roomId, userId);
+        return presenceRegistry.getPresent(PresenceRegistry.room(roomId));
+    }
+
     @Transactional
     public CollabRoomResponse createRoom(Long userId, CollabRoomCreateRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        Team team = teamRepository.findTeamByIdAndUserId(request.getTeamId(), userId)
+        if (!membershipCache.isMember(request.getTeamId(), userId)) {
+            throw new IllegalArgumentException("팀을 찾을 수 없거나 팀원이 아닙니다.");
+        }
+        Team team = teamRepository.findById(request.getTeamId())
                 .orElseThrow(() -> new IllegalArgumentException("팀을 찾을 수 없거나 팀원이 아닙니다."));
 
         CollabRoom room = CollabRoom.builder()
@@ -63,7 +81,18 @@ public class CollabRoomService {
             room.setTitle(request.getTitle());
         }
         if (request.getContent() != null) {
-            room.setContent(request.getContent());
+            // 편집 중인 방이면 방 문서에 반영 (OT: 차이 연산, CRDT: 삭제/삽입, 접속자에게 브로드캐스트)
+            String merged = collabOtService.isEnabled()
+                    ? collabOtService.replaceIfOpen(roomId, request.getContent(), userId)
+                    : collabCrdtService.replaceIfOpen(roomId, request.getContent(), userId);
+            room.setContent(merged != null ? merged : request.getContent());
+        }
+        // 이 트랜잭션은 커밋 시점에 content 컬럼을 덮어씀 (그 사이 주기 저장된 더 새 텍스트보다 오래됐을 수 있음)
+        // → 편집 중인 방이면 커밋 후 문서를 다시 저장 대상으로 표시해 최신 텍스트로 덮어쓰게 함
+        if (collabOtService.isEnabled()) {
+            collabOtService.markDirtyAfterCommit(roomId);
+        } else {
+            collabCrdtService.markDirtyAfterCommit(roomId);
         }
 
         return CollabRoomResponse.from(room);
@@ -85,6 +114,14 @@ public class CollabRoomService {
             category = categoryRepository.findById(request.getCategoryId()).orElse(null);
         }
 
+        // 편집 중인 방이면 메모리 문서의 텍스트가 최신 (DB는 주기적으로만 저장)
+        String liveContent = collabOtService.isEnabled()
+                ? collabOtService.currentText(roomId)
+                : collabCrdtService.currentText(roomId);
+        if (liveContent != null) {
+            room.setContent(liveContent);
+        }
+
         Post post = Post.builder()
                 .title(room.getTitle() != null && !room.getTitle().isBlank() ? room.getTitle() : "제목 없음")
                 .content(room.getContent() != null ? room.getContent() : "")
@@ -99,16 +136,16 @@ public class CollabRoomService {
                 .build();
 
         if (request.getTags() != null && !request.getTags().isEmpty()) {
-            List<Tag> tags = tagService.getOrCreateTags(request.getTags());
-            for (Tag tag : tags) {
-                post.addTag(tag);
-            }
+            tagService.assignTags(post, request.getTags());
         }
 
         Post savedPost = postRepository.save(post);
+        postSearchIndex.index(savedPost);
+        postListCache.invalidateAfterCommit();
 
         room.setIsPublished(true);
         room.setPublishedPostId(savedPost.getId());
+        closeDocumentAfterCommit(roomId);
 
         return savedPost.getId();
     }
@@ -117,16 +154,23 @@ public class CollabRoomService {
     public void deleteRoom(Long roomId, Long userId) {
         CollabRoom room = findRoomWithMemberCheck(roomId, userId);
         collabRoomRepository.delete(room);
+        closeDocumentAfterCommit(roomId);
+    }
+
+    // 발행/삭제된 방의 메모리 문서 닫기 (사용 중인 엔진)
+    private void closeDocumentAfterCommit(Long roomId) {
+        if (collabOtService.isEnabled()) {
+            collabOtService.closeAfterCommit(roomId);
+        } else {
+            collabCrdtService.closeAfterCommit(roomId);
+        }
     }
 
     private CollabRoom findRoomWithMemberCheck(Long roomId, Long userId) {
-        CollabRoom room = collabRoomRepository.findByIdWithTeamAndMembers(roomId)
+        CollabRoom room = collabRoomRepository.findByIdWithTeam(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("공동 편집 방을 찾을 수 없습니다."));
 
-        boolean isMember = room.getTeam().getMembers().stream()
-                .anyMatch(m -> m.getUser().getId().equals(userId));
-
-        if (!isMember) {
+        if (!membershipCache.isMember(room.getTeam().getId(), userId)) {
             throw new IllegalArgumentException("팀원만 접근할 수 있습니다.");
         }
 
@@ -1,54 +1,103 @@
 package com.example.board.service;
 
+import com.example.board.dto.response.CommentCursorResponse;
 import com.example.board.dto.response.CommentListResponse;
 import com.example.board.dto.response.CommentResponse;
 import com.example.board.dto.request.CreateCommentRequest;
 import com.example.board.dto.request.UpdateCommentRequest;
 import com.example.board.entity.Comment;
-import com.example.board.entity.Post;
 import com.example.board.entity.User;
 import com.example.board.repository.CommentRepository;
 import com.example.board.repository.PostRepository;
 import com.example.board.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional(readOnly = true)
 public class CommentService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostListCache postListCache;
+
+    private static final int MAX_CURSOR_SIZE = 100;  // 커서 조회 한 번에 가져오는 최대 댓글 수
+
+    @Value("${comment.count-reconcile.chunk-size:1000}")
+    private int reconcileChunkSize;
 
     public CommentListResponse getComments(Long postId) {
         List<Comment> comments = commentRepository.findByPostIdOrderByCreatedAtAsc(postId);
         return CommentListResponse.of(comments);
     }
 
+    // ✅ 커서 기반 댓글 조회 (작성자 조인 포함 쿼리 1번, 오래된 순)
+    public CommentCursorResponse getCommentsByCursor(Long postId, String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다.");
+        }
+        // 큰 size 요청도 한 페이지는 최대 MAX_CURSOR_SIZE개 (다음 페이지는 nextCursor로)
+        size = Math.min(size, MAX_CURSOR_SIZE);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<Comment> comments = commentRepository.findByCursor(postId,
+                decoded != null ? decoded.getCreatedAt() : null,
+                decoded != null ? decoded.getId() : null,
+                PageRequest.of(0, size + 1));
+
+        boolean hasNext = comments.size() > size;
+        if (hasNext) {
+            comments = comments.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = comments.get(comments.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return CommentCursorResponse.builder()
+                .comments(comments.stream()
+                        .map(CommentResponse::fromEntity)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(size)
+                .build();
+    }
+
     @Transactional
     public CommentResponse createComment(Long userId, Long postId, CreateCommentRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        // 게시글 댓글 수 증가 (상대 UPDATE, 0건이면 없는 게시글)
+        if (postRepository.incrementCommentCount(postId) == 0) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
 
         Comment comment = Comment.builder()
                 .content(request.getContent())
-                .post(post)
+                .post(postRepository.getReferenceById(postId))  // 게시글 로딩 없이 FK만 사용
                 .author(user)
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
 
-        // 게시글 댓글 수 증가
-        post.incrementComments();
-
         return CommentResponse.fromEntity(savedComment);
     }
 
@@ -77,10 +126,31 @@ public class CommentService {
             throw new IllegalArgumentException("댓글 삭제 권한이 없습니다.");
         }
 
-        Post post = comment.getPost();
+        Long postId = comment.getPost().getId();  // 프록시 id만 사용 (게시글 로딩 없음)
         commentRepository.delete(comment);
 
-        // 게시글 댓글 수 감소
-        post.decrementComments();
+        // 게시글 댓글 수 감소 (상대 UPDATE)
+        postRepository.decrementCommentCount(postId);
+    }
+
+    // ✅ 댓글 수 보정 작업: 게시글 id 구간별로 comment_count를 comments 실제 개수로 맞춤
+    // 구간마다 별도의 짧은 트랜잭션
+    @Scheduled(cron = "${comment.count-reconcile.cron:0 0 5 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reconcileCommentCounts() {
+        long start = System.currentTimeMillis();
+        int reconciled = 0;
+
+        long maxId = postRepository.findMaxId().orElse(0L);
+        for (long fromId = 1; fromId <= maxId; fromId += reconcileChunkSize) {
+            reconciled += postRepository.reconcileCommentCounts(fromId, fromId + reconcileChunkSize - 1);
+        }
+
+        if (reconciled > 0) {
+            postListCache.invalidateAll();
+        }
+
+        log.info("댓글 수 보정 완료 - {}개 게시글, {}ms", reconciled, System.currentTimeMillis() - start);
+        return reconciled;
     }
 }
\ No newline at end of file
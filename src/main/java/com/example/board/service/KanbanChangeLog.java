@@ -0,0 +1,87 @@
+package com.example.board.service;
+
+import com.example.board.entity.KanbanBoardChange;
+import com.example.board.entity.KanbanCard;
+import com.example.board.repository.KanbanBoardChangeRepository;
+import com.example.board.repository.KanbanBoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 칸반 보드 revision + 변경 로그
+ *
+ * - 보드 변경 트랜잭션은 권한 확인 직후, 변경 대상을 읽기 전에 nextRevision() 호출 (보드 행 잠금 → 같은 보드의 변경은 커밋 순서대로 직렬화)
+ * - 같은 트랜잭션에서 받은 revision으로 변경 로그 기록 → revision과 로그가 항상 같이 커밋됨 (빈 번호 없음)
+ * - 보관 기간이 지난 로그는 주기적으로 삭제
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KanbanChangeLog {
+
+    private final KanbanBoardRepository boardRepository;
+    private final KanbanBoardChangeRepository changeRepository;
+
+    @Value("${kanban.change-log.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${kanban.change-log.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 보드 revision 증가 + 보드 행 잠금, 증가된 revision 반환
+     */
+    public long nextRevision(Long boardId) {
+        if (boardRepository.incrementRevision(boardId) == 0) {
+            throw new IllegalArgumentException("보드를 찾을 수 없습니다: " + boardId);
+        }
+        return boardRepository.findRevisionById(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다: " + boardId));
+    }
+
+    public void cardChanged(Long boardId, long revision, Long cardId) {
+        record(boardId, revision, KanbanBoardChange.ChangeType.CARD_UPSERTED, cardId, null);
+    }
+
+    public void cardDeleted(Long boardId, long revision, Long cardId) {
+        record(boardId, revision, KanbanBoardChange.ChangeType.CARD_DELETED, cardId, null);
+    }
+
+    public void columnRebalanced(Long boardId, long revision, KanbanCard.CardStatus status) {
+        record(boardId, revision, KanbanBoardChange.ChangeType.COLUMN_REBALANCED, null, status);
+    }
+
+    private void record(Long boardId, long revision, KanbanBoardChange.ChangeType type,
+                        Long cardId, KanbanCard.CardStatus status) {
+        changeRepository.save(KanbanBoardChange.builder()
+                .boardId(boardId)
+                .revision(revision)
+                .changeType(type)
+                .cardId(cardId)
+                .status(status)
+                .build());
+    }
+
+    /**
+     * 보관 기간이 지난 로그 삭제 (chunk마다 별도 트랜잭션)
+     */
+    @Scheduled(cron = "${kanban.change-log.compact-cron:0 0 4 * * *}")
+    public void compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long deleted = 0;
+        int removed;
+        do {
+            removed = changeRepository.deleteOlderThan(cutoff, chunkSize);
+            deleted += removed;
+        } while (removed == chunkSize);
+
+        if (deleted > 0) {
+            log.info("칸반 변경 로그 정리 완료 - cutoff: {}, deleted: {}", cutoff, deleted);
+        }
+    }
+}
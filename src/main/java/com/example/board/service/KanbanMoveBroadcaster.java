@@ -0,0 +1,112 @@
+package com.example.board.service;
+
+import com.example.board.dto.websocket.KanbanBoardMovesMessage;
+import com.example.board.entity.KanbanCard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 칸반 카드 이동 브로드캐스트
+ *
+ * - 이동 트랜잭션이 커밋된 뒤에만 대기열에 넣음 (롤백/재시도된 이동은 전송 안 됨)
+ * - kanban.broadcast-interval마다 보드별로 모아서 /topic/kanban/{boardId}에 한 프레임으로 전송
+ *   (전용 스케줄러 kanbanBroadcastScheduler에서 실행 → 다른 @Scheduled 작업에 밀리지 않음)
+ * - 같은 구간에 같은 카드가 여러 번 움직이면 마지막 이동만 전송 (재배치 여부는 합쳐서 유지)
+ * - 컬럼 재배치(이동 중 즉시 / 예약 재배치)는 프레임의 rebalancedColumns로 전송
+ */
+@Component
+@RequiredArgsConstructor
+public class KanbanMoveBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // boardId → 보드별 대기열
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    public void publishAfterCommit(Long boardId, KanbanBoardMovesMessage.Move move) {
+        afterCommit(() -> enqueue(boardId, move));
+    }
+
+    /**
+     * 컬럼 재배치 알림 (트랜잭션 안이면 커밋 후)
+     */
+    public void publishRebalanceAfterCommit(Long boardId, KanbanCard.CardStatus status, long revision) {
+        afterCommit(() -> pending.compute(boardId, (id, queued) -> {
+            Pending board = queued != null ? queued : new Pending();
+            board.rebalancedColumns.add(status.name());
+            board.revision = Math.max(board.revision, revision);
+            return board;
+        }));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void enqueue(Long boardId, KanbanBoardMovesMessage.Move move) {
+        pending.compute(boardId, (id, queued) -> {
+            Pending board = queued != null ? queued : new Pending();
+            KanbanBoardMovesMessage.Move previous = board.moves.get(move.getCardId());
+            if (previous == null || previous.getRevision() < move.getRevision()) {
+                // 앞선 이동이 재배치를 일으켰으면 합친 이동에도 남김
+                if (previous != null && previous.isRebalanced()) {
+                    move.setRebalanced(true);
+                }
+                board.moves.remove(move.getCardId());  // revision 순서 유지
+                board.moves.put(move.getCardId(), move);
+            } else if (move.isRebalanced()) {
+                previous.setRebalanced(true);
+            }
+            board.revision = Math.max(board.revision, move.getRevision());
+            return board;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${kanban.broadcast-interval:50}", scheduler = "kanbanBroadcastScheduler")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        for (Long boardId : new ArrayList<>(pending.keySet())) {
+            // remove 이후 들어오는 이동은 새 대기열로 → 다음 flush에서 전송
+            Pending board = pending.remove(boardId);
+            if (board == null || (board.moves.isEmpty() && board.rebalancedColumns.isEmpty())) {
+                continue;
+            }
+
+            List<KanbanBoardMovesMessage.Move> moves = new ArrayList<>(board.moves.values());
+            moves.sort((a, b) -> Long.compare(a.getRevision(), b.getRevision()));
+
+            messagingTemplate.convertAndSend("/topic/kanban/" + boardId, KanbanBoardMovesMessage.builder()
+                    .boardId(boardId)
+                    .revision(board.revision)
+                    .moves(moves)
+                    .rebalancedColumns(new ArrayList<>(board.rebalancedColumns))
+                    .timestamp(System.currentTimeMillis())
+                    .build());
+        }
+    }
+
+    private static class Pending {
+        private final Map<Long, KanbanBoardMovesMessage.Move> moves = new LinkedHashMap<>();  // cardId → 이동
+        private final Set<String> rebalancedColumns = new LinkedHashSet<>();
+        private long revision;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.board.service;
+
+import com.example.board.dto.kanban.KanbanCardMoveRequest;
+import com.example.board.dto.kanban.KanbanCardResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 칸반 카드 이동 (충돌 시 재시도)
+ *
+ * - KanbanService.moveCard는 보드 행을 먼저 잠그므로 같은 보드의 이동은 순서대로 처리됨
+ * - 그래도 다른 경로로 같은 카드가 동시에 바뀌어 version 충돌이 나면 새 트랜잭션으로 짧게 재시도
+ * - 재시도해도 실패하면 대상 컬럼의 현재 순서를 담아 409 (KanbanConflictException)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KanbanMoveService {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final KanbanService kanbanService;
+
+    public KanbanCardResponse moveCard(Long boardId, Long cardId, KanbanCardMoveRequest request, Long currentUserId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return kanbanService.moveCard(boardId, cardId, request, currentUserId);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.warn("칸반 카드 이동 충돌 - cardId: {}, attempts: {}", cardId, attempt);
+                    throw kanbanService.columnConflict(boardId, request.getStatus(),
+                            "다른 사용자가 카드를 먼저 이동했습니다. 최신 순서로 다시 시도해주세요.");
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(5, 20) * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.board.service;
+
+import com.example.board.entity.KanbanCard;
+import com.example.board.repository.KanbanCardRepository;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 칸반 카드 position 재배치
+ *
+ * - position은 간격(POSITION_GAP)을 둔 long 값 → 카드 이동 시 이웃 사이 중간값만 쓰므로 UPDATE 1건
+ * - 같은 자리에 계속 끼워 넣어 간격이 MIN_GAP 아래로 줄면 해당 컬럼을 예약해 두고
+ *   주기적으로 (순서 그대로) 1·GAP, 2·GAP, ... 로 다시 번호 매김 (컬럼당 UPDATE 문 1번)
+ * - 간격이 아예 없으면 이동 트랜잭션 안에서 즉시 재배치 (KanbanService.moveCard)
+ * - 재배치도 보드 변경이므로 보드 행을 잠그고 변경 로그(COLUMN_REBALANCED)를 남김
+ *   (예약 재배치는 컬럼마다 별도 트랜잭션)
+ * - 커밋 후 KanbanMoveBroadcaster로 재배치된 컬럼을 알림 → 클라이언트가 정렬 값 다시 동기화
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KanbanPositionRebalancer {
+
+    public static final long POSITION_GAP = 1L << 20;
+    public static final long MIN_GAP = 1L << 10;
+
+    private final KanbanCardRepository cardRepository;
+    private final KanbanChangeLog changeLog;
+    private final TransactionTemplate transactionTemplate;
+    private final KanbanMoveBroadcaster moveBroadcaster;
+
+    private final Set<Column> pendingColumns = ConcurrentHashMap.newKeySet();
+
+    // 간격이 좁아진 컬럼 예약
+    public void request(Long boardId, KanbanCard.CardStatus status) {
+        pendingColumns.add(new Column(boardId, status));
+    }
+
+    // 컬럼 즉시 재배치 (호출한 트랜잭션 안에서 실행, 보드 revision은 호출 측에서 이미 증가시킨 값)
+    public int rebalanceNow(Long boardId, KanbanCard.CardStatus status, long revision) {
+        pendingColumns.remove(new Column(boardId, status));
+        int updated = cardRepository.rebalanceColumn(boardId, status.name(), POSITION_GAP);
+        changeLog.columnRebalanced(boardId, revision, status);
+        moveBroadcaster.publishRebalanceAfterCommit(boardId, status, revision);
+        return updated;
+    }
+
+    @Scheduled(fixedDelayString = "${kanban.rebalance-interval:10000}")
+    public void rebalancePending() {
+        if (pendingColumns.isEmpty()) {
+            return;
+        }
+
+        List<Column> columns = new ArrayList<>(pendingColumns);
+        for (Column column : columns) {
+            pendingColumns.remove(column);
+            try {
+                Integer updated = transactionTemplate.execute(tx ->
+                        rebalanceNow(column.boardId, column.status, changeLog.nextRevision(column.boardId)));
+                log.info("칸반 컬럼 재배치 완료 - boardId: {}, status: {}, cards: {}",
+                        column.boardId, column.status, updated);
+            } catch (IllegalArgumentException e) {
+                // 보드가 삭제됨 → 예약 제거
+                log.info("칸반 컬럼 재배치 건너뜀 - boardId: {}, {}", column.boardId, e.getMessage());
+            } catch (Exception e) {
+                log.error("칸반 컬럼 재배치 실패 - boardId: {}, status: {}", column.boardId, column.status, e);
+                pendingColumns.add(column);
+            }
+        }
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Column {
+        private final Long boardId;
+        private final KanbanCard.CardStatus status;
+    }
+}
@@ -1,14 +1,24 @@
 package com.example.board.service;
 
 import com.example.board.dto.kanban.*;
+import com.example.board.dto.websocket.KanbanBoardMovesMessage;
 import com.example.board.entity.*;
+import com.example.board.exception.KanbanConflictException;
 import com.example.board.repository.*;
+import com.example.board.repository.projection.CardCountView;
+import com.example.board.repository.projection.ChecklistToggleTargetView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,9 +31,16 @@ public class KanbanService {
     private final KanbanCardRepository cardRepository;
     private final KanbanCardCommentRepository commentRepository;
     private final TeamRepository teamRepository;
-    private final TeamMemberRepository teamMemberRepository;
+    private final TeamMembershipCache membershipCache;
     private final UserRepository userRepository;
     private final KanbanChecklistItemRepository checklistItemRepository;
+    private final KanbanPositionRebalancer positionRebalancer;
+    private final KanbanChangeLog changeLog;
+    private final KanbanBoardChangeRepository changeRepository;
+    private final KanbanMoveBroadcaster moveBroadcaster;
+
+    @Value("${kanban.change-log.max-delta:1000}")
+    private int maxDeltaChanges;
 
     // ========================================
     // 칸반 보드 CRUD
@@ -35,7 +52,7 @@ public class KanbanService {
     @Transactional
     public KanbanBoardResponse createBoard(KanbanBoardCreateRequest request, Long currentUserId) {
         // 팀 멤버 확인
-        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(request.getTeamId(), currentUserId)) {
+        if (!membershipCache.isMember(request.getTeamId(), currentUserId)) {
             throw new IllegalStateException("팀 멤버만 보드를 생성할 수 있습니다");
         }
 
@@ -60,8 +77,8 @@ public class KanbanService {
      * 내가 접근 가능한 칸반 보드 목록 조회
      */
     public List<KanbanBoardResponse> getMyBoards(Long currentUserId) {
-        List<KanbanBoard> boards = boardRepository.findAccessibleBoardsByUserId(currentUserId);
-        return boards.stream()
+        // 카드 수는 프로젝션으로 집계 (카드 엔티티 로딩 없음)
+        return boardRepository.findAccessibleBoardSummaries(currentUserId).stream()
                 .map(KanbanBoardResponse::from)
                 .collect(Collectors.toList());
     }
@@ -71,29 +88,144 @@ public class KanbanService {
      */
     public List<KanbanBoardResponse> getTeamBoards(Long teamId, Long currentUserId) {
         // 팀 멤버 확인
-        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(teamId, currentUserId)) {
+        if (!membershipCache.isMember(teamId, currentUserId)) {
             throw new IllegalStateException("팀 멤버만 보드를 조회할 수 있습니다");
         }
 
-        List<KanbanBoard> boards = boardRepository.findByTeam_Id(teamId);
-        return boards.stream()
+        return boardRepository.findTeamBoardSummaries(teamId).stream()
                 .map(KanbanBoardResponse::from)
                 .collect(Collectors.toList());
     }
 
     /**
      * 칸반 보드 상세 조회 (카드 포함)
+     * 카드 수와 무관하게 쿼리 5번: 보드+팀, 멤버 확인, 카드+사용자, 체크리스트(IN), 댓글 수(GROUP BY)
      */
     public KanbanBoardResponse getBoard(Long boardId, Long currentUserId) {
-        KanbanBoard board = boardRepository.findById(boardId)
+        KanbanBoard board = findBoardForRead(boardId, currentUserId);
+
+        List<KanbanCard> cards = cardRepository.findBoardCardsWithUsers(boardId);
+        List<Long> cardIds = cards.stream().map(KanbanCard::getId).collect(Collectors.toList());
+
+        Map<Long, List<KanbanCardResponse.ChecklistItemResponse>> itemsByCardId = cardIds.isEmpty()
+                ? Map.of()
+                : checklistItemRepository.findByCardIds(cardIds).stream()
+                        .collect(Collectors.groupingBy(item -> item.getCard().getId(),
+                                Collectors.mapping(KanbanCardResponse.ChecklistItemResponse::from, Collectors.toList())));
+        Map<Long, Long> commentCounts = countCommentsByCardId(cardIds);
+
+        List<KanbanCardResponse> cardResponses = cards.stream()
+                .map(card -> KanbanCardResponse.of(card, board,
+                        itemsByCardId.getOrDefault(card.getId(), List.of()),
+                        commentCounts.getOrDefault(card.getId(), 0L).intValue()))
+                .collect(Collectors.toList());
+
+        return KanbanBoardResponse.fromWithCards(board, cardResponses);
+    }
+
+    /**
+     * 칸반 보드 스냅샷 (보드 화면용 압축 응답)
+     * 체크리스트는 항목 대신 카드의 개수 컬럼(checklist_total/done)만 사용
+     */
+    public KanbanBoardSnapshotResponse getBoardSnapshot(Long boardId, Long currentUserId) {
+        KanbanBoard board = findBoardForRead(boardId, currentUserId);
+
+        return buildSnapshot(board);
+    }
+
+    /**
+     * 칸반 보드 델타 조회 (since revision 이후 바뀐 카드만)
+     * 변경 로그가 정리되어 since 다음 revision부터 이어지지 않거나, 변경이 너무 많으면 전체 스냅샷으로 대체
+     */
+    public KanbanBoardChangesResponse getBoardChanges(Long boardId, Long since, Long currentUserId) {
+        KanbanBoard board = findBoardForRead(boardId, currentUserId);
+        long revision = board.getRevision();
+
+        if (since == null || since < 0 || since > revision) {
+            return KanbanBoardChangesResponse.full(since, buildSnapshot(board));
+        }
+        if (since == revision) {
+            return KanbanBoardChangesResponse.delta(boardId, since, revision, List.of(), List.of());
+        }
+
+        // 읽기 트랜잭션 안이라 보드 revision과 같은 시점의 로그를 봄
+        List<KanbanBoardChange> changes = changeRepository.findSince(boardId, since,
+                PageRequest.of(0, maxDeltaChanges + 1));
+        if (changes.isEmpty() || changes.get(0).getRevision() != since + 1 || changes.size() > maxDeltaChanges) {
+            return KanbanBoardChangesResponse.full(since, buildSnapshot(board));
+        }
+
+        // revision 순으로 적용 → 카드별 마지막 상태만 남김
+        Set<Long> changedIds = new LinkedHashSet<>();
+        Set<Long> deletedIds = new LinkedHashSet<>();
+        Set<KanbanCard.CardStatus> rebalancedColumns = new LinkedHashSet<>();
+        for (KanbanBoardChange change : changes) {
+            switch (change.getChangeType()) {
+                case CARD_UPSERTED -> {
+                    deletedIds.remove(change.getCardId());
+                    changedIds.add(change.getCardId());
+                }
+                case CARD_DELETED -> {
+                    changedIds.remove(change.getCardId());
+                    deletedIds.add(change.getCardId());
+                }
+                case COLUMN_REBALANCED -> rebalancedColumns.add(change.getStatus());
+            }
+        }
+        // 재배치된 컬럼은 모든 카드의 position이 바뀜
+        for (KanbanCard.CardStatus status : rebalancedColumns) {
+            changedIds.addAll(cardRepository.findIdsInColumn(boardId, status));
+        }
+        changedIds.removeAll(deletedIds);
+
+        List<KanbanCard> cards = changedIds.isEmpty()
+                ? List.of()
+                : cardRepository.findBoardCardsWithUsersByIds(boardId, changedIds);
+        if (cards.size() < changedIds.size()) {
+            // 로그 이후 카드가 사라진 경우 (보드 이동 등) → 삭제로 전달
+            Set<Long> found = cards.stream().map(KanbanCard::getId).collect(Collectors.toSet());
+            changedIds.stream().filter(id -> !found.contains(id)).forEach(deletedIds::add);
+        }
+
+        return KanbanBoardChangesResponse.delta(boardId, since, revision,
+                toCardSnapshots(cards), new ArrayList<>(deletedIds));
+    }
+
+    private KanbanBoardSnapshotResponse buildSnapshot(KanbanBoard board) {
+        return KanbanBoardSnapshotResponse.of(board,
+                toCardSnapshots(cardRepository.findBoardCardsWithUsers(board.getId())));
+    }
+
+    // 체크리스트 개수는 카드 컬럼(checklist_total/done), 댓글 수는 카드 ID로 묶어서 집계 (쿼리 1번)
+    private List<KanbanBoardSnapshotResponse.CardSnapshot> toCardSnapshots(List<KanbanCard> cards) {
+        List<Long> cardIds = cards.stream().map(KanbanCard::getId).collect(Collectors.toList());
+        Map<Long, Long> commentCounts = countCommentsByCardId(cardIds);
+
+        return cards.stream()
+                .map(card -> KanbanBoardSnapshotResponse.CardSnapshot.of(card,
+                        commentCounts.getOrDefault(card.getId(), 0L).intValue(),
+                        card.getChecklistTotal(),
+                        card.getChecklistDone()))
+                .collect(Collectors.toList());
+    }
+
+    private KanbanBoard findBoardForRead(Long boardId, Long currentUserId) {
+        KanbanBoard board = boardRepository.findWithTeamById(boardId)
                 .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다: " + boardId));
 
         // 팀 멤버 확인
-        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(board.getTeam().getId(), currentUserId)) {
+        if (!membershipCache.isMember(board.getTeam().getId(), currentUserId)) {
             throw new IllegalStateException("접근 권한이 없습니다");
         }
+        return board;
+    }
 
-        return KanbanBoardResponse.fromWithCards(board);
+    private Map<Long, Long> countCommentsByCardId(List<Long> cardIds) {
+        if (cardIds.isEmpty()) {
+            return Map.of();
+        }
+        return commentRepository.countByCardIds(cardIds).stream()
+                .collect(Collectors.toMap(CardCountView::getCardId, CardCountView::getCount));
     }
 
     /**
@@ -119,21 +251,21 @@ public class KanbanService {
     // createCard 메서드 수정
     @Transactional
     public KanbanCardResponse createCard(Long boardId, KanbanCardCreateRequest request, Long currentUserId) {
+        long revision = lockBoardForMember(boardId, currentUserId, "팀 멤버만 카드를 생성할 수 있습니다");
+
         KanbanBoard board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다: " + boardId));
 
-        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(board.getTeam().getId(), currentUserId)) {
-            throw new IllegalStateException("팀 멤버만 카드를 생성할 수 있습니다");
-        }
-
         User creator = userRepository.findById(currentUserId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + currentUserId));
 
         KanbanCard.CardStatus status = parseStatus(request.getStatus());
         KanbanCard.Priority priority = parsePriority(request.getPriority()); // ✅ 추가
 
-        List<KanbanCard> existingCards = cardRepository.findByBoard_IdAndStatusOrderByPositionAsc(boardId, status);
-        int newPosition = existingCards.isEmpty() ? 0 : existingCards.get(existingCards.size() - 1).getPosition() + 1;
+        // 컬럼 맨 뒤에 추가 (마지막 position + 간격)
+        long newPosition = cardRepository.findMaxPosition(boardId, status, null)
+                .map(last -> last + KanbanPositionRebalancer.POSITION_GAP)
+                .orElse(KanbanPositionRebalancer.POSITION_GAP);
 
         User assignedTo = null;
         if (request.getAssignedTo() != null) {
@@ -153,6 +285,7 @@ public class KanbanService {
                 .build();
 
         KanbanCard savedCard = cardRepository.save(card);
+        changeLog.cardChanged(boardId, revision, savedCard.getId());
 
         log.info("칸반 카드 생성 완료 - cardId: {}, boardId: {}, createdBy: {}",
                 savedCard.getId(), boardId, currentUserId);
@@ -163,13 +296,11 @@ public class KanbanService {
     // updateCard 메서드 수정
     @Transactional
     public KanbanCardResponse updateCard(Long boardId, Long cardId, KanbanCardUpdateRequest request, Long currentUserId) {
+        long revision = lockBoardForMember(boardId, currentUserId);
+
         KanbanCard card = cardRepository.findByIdAndBoard_Id(cardId, boardId)
                 .orElseThrow(() -> new IllegalArgumentException("카드를 찾을 수 없습니다: " + cardId));
 
-        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(card.getBoard().getTeam().getId(), currentUserId)) {
-            throw new IllegalStateException("접근 권한이 없습니다");
-        }
-
         if (request.getTitle() != null) {
             card.setTitle(request.getTitle());
         }
@@ -187,7 +318,8 @@ public class KanbanService {
             card.setPriority(parsePriority(request.getPriority()));
         }
 
-        KanbanCard updatedCard = cardRepository.save(card);
+        KanbanCard updatedCard = cardRepository.saveAndFlush(card);  // version 증가 반영
+        changeLog.cardChanged(boardId, revision, cardId);
 
         log.info("칸반 카드 수정 완료 - cardId: {}, updatedBy: {}", cardId, currentUserId);
 
@@ -208,40 +340,54 @@ public class KanbanService {
 
     /**
      * 칸반 카드 이동 (상태 변경 + 위치 변경)
+     * 이동한 카드의 position만 이웃 사이 값으로 바꿈 → 컬럼 크기와 무관하게 UPDATE 1건
      */
     @Transactional
     public KanbanCardResponse moveCard(Long boardId, Long cardId, KanbanCardMoveRequest request, Long currentUserId) {
+        // 보드 행 잠금 → 이웃 position 조회가 앞선 이동의 커밋 결과를 보도록 카드 조회 전에 실행
+        long revision = lockBoardForMember(boardId, currentUserId);
+
         KanbanCard card = cardRepository.findByIdAndBoard_Id(cardId, boardId)
                 .orElseThrow(() -> new IllegalArgumentException("카드를 찾을 수 없습니다: " + cardId));
 
-        // 팀 멤버 확인
-        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(card.getBoard().getTeam().getId(), currentUserId)) {
-            throw new IllegalStateException("접근 권한이 없습니다");
-        }
-
         KanbanCard.CardStatus newStatus = parseStatus(request.getStatus());
         KanbanCard.CardStatus oldStatus = card.getStatus();
-        int newPosition = request.getPosition();
 
-        // 같은 컬럼 내 이동
-        if (oldStatus == newStatus) {
-            reorderCardsInSameColumn(boardId, newStatus, card.getPosition(), newPosition);
+        // 클라이언트가 오래된 카드 상태를 보고 이동한 경우 → 현재 컬럼 순서와 함께 409
+        if (request.getVersion() != null && !request.getVersion().equals(card.getVersion())) {
+            throw columnConflict(boardId, newStatus.name(), "카드가 이미 변경되었습니다. 최신 순서로 다시 시도해주세요.");
         }
-        // 다른 컬럼으로 이동
-        else {
-            // 기존 컬럼에서 제거 후 재정렬
-            reorderAfterRemoval(boardId, oldStatus, card.getPosition());
-            // 새 컬럼에 삽입
-            insertCardIntoColumn(boardId, newStatus, newPosition);
+
+        int targetIndex = Math.max(0, request.getPosition());
+
+        Long newPosition = positionForIndex(boardId, newStatus, cardId, targetIndex);
+        boolean rebalanced = false;
+        if (newPosition == null) {
+            // 이웃 사이 간격이 없음 → 컬럼 재배치 후 다시 계산
+            positionRebalancer.rebalanceNow(boardId, newStatus, revision);
+            newPosition = positionForIndex(boardId, newStatus, cardId, targetIndex);
+            rebalanced = true;
         }
 
         card.setStatus(newStatus);
         card.setPosition(newPosition);
 
-        KanbanCard movedCard = cardRepository.save(card);
+        KanbanCard movedCard = cardRepository.saveAndFlush(card);  // version 충돌은 여기서 감지
+        changeLog.cardChanged(boardId, revision, cardId);
+
+        // 커밋 후 /topic/kanban/{boardId}로 전송 (REST/STOMP 이동 공통)
+        moveBroadcaster.publishAfterCommit(boardId, KanbanBoardMovesMessage.Move.builder()
+                .cardId(cardId)
+                .status(newStatus.name())
+                .position(movedCard.getPosition())
+                .version(movedCard.getVersion())
+                .revision(revision)
+                .rebalanced(rebalanced)
+                .userId(currentUserId)
+                .build());
 
-        log.info("칸반 카드 이동 완료 - cardId: {}, from: {}/{} to: {}/{}",
-                cardId, oldStatus, card.getPosition(), newStatus, newPosition);
+        log.info("칸반 카드 이동 완료 - cardId: {}, from: {} to: {}/{} (position: {})",
+                cardId, oldStatus, newStatus, targetIndex, newPosition);
 
         return KanbanCardResponse.from(movedCard);
     }
@@ -251,18 +397,14 @@ public class KanbanService {
      */
     @Transactional
     public void deleteCard(Long boardId, Long cardId, Long currentUserId) {
+        long revision = lockBoardForMember(boardId, currentUserId);
+
         KanbanCard card = cardRepository.findByIdAndBoard_Id(cardId, boardId)
                 .orElseThrow(() -> new IllegalArgumentException("카드를 찾을 수 없습니다: " + cardId));
 
-        // 팀 멤버 확인
-        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(card.getBoard().getTeam().getId(), currentUserId)) {
-            throw new IllegalStateException("접근 권한이 없습니다");
-        }
-
-        // 삭제 후 position 재정렬
-        reorderAfterRemoval(boardId, card.getStatus(), card.getPosition());
-
+        // position은 간격을 둔 값이라 삭제 후 재정렬 불필요
         cardRepository.delete(card);
+        changeLog.cardDeleted(boardId, revision, cardId);
 
         log.info("칸반 카드 삭제 완료 - cardId: {}, deletedBy: {}", cardId, currentUserId);
     }
@@ -271,6 +413,47 @@ public class KanbanService {
     // 헬퍼 메서드
     // ========================================
 
+    /**
+     * 보드 revision 증가 + 보드 행 잠금, 증가된 revision 반환
+     * 카드/체크리스트/댓글 변경 트랜잭션에서 권한 확인 직후, 변경 대상을 읽기 전에 호출 (같은 보드의 변경은 순서대로 처리)
+     * 반환된 revision으로 같은 트랜잭션에서 변경 로그를 남겨야 함 (KanbanChangeLog)
+     */
+    private long lockBoardForWrite(Long boardId) {
+        return changeLog.nextRevision(boardId);
+    }
+
+    /**
+     * 팀 멤버 확인 후 보드 잠금 (lockBoardForWrite)
+     * 멤버 여부는 잠금 전에 캐시로 확인 → 권한 없는 요청이 보드 행 잠금을 잡아 같은 보드의 쓰기를 줄 세우지 못함
+     * 보드가 속한 팀은 바뀌지 않으므로 잠금 전에 읽어도 됨
+     */
+    private long lockBoardForMember(Long boardId, Long currentUserId) {
+        return lockBoardForMember(boardId, currentUserId, "접근 권한이 없습니다");
+    }
+
+    private long lockBoardForMember(Long boardId, Long currentUserId, String deniedMessage) {
+        Long teamId = boardRepository.findTeamIdById(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다: " + boardId));
+
+        if (!membershipCache.isMember(teamId, currentUserId)) {
+            throw new IllegalStateException(deniedMessage);
+        }
+        return lockBoardForWrite(boardId);
+    }
+
+    /**
+     * 이동 충돌 예외 (대상 컬럼의 현재 카드 순서 포함)
+     */
+    public KanbanConflictException columnConflict(Long boardId, String status, String message) {
+        KanbanCard.CardStatus cardStatus = parseStatus(status);
+        return new KanbanConflictException(
+                message,
+                boardId,
+                boardRepository.findRevisionById(boardId).orElse(null),
+                cardStatus.name(),
+                cardRepository.findIdsInColumn(boardId, cardStatus));
+    }
+
     private KanbanCard.CardStatus parseStatus(String status) {
         if (status == null) {
             return KanbanCard.CardStatus.TODO;
@@ -283,65 +466,57 @@ public class KanbanService {
     }
 
     private void checkTeamAdminPermission(Long teamId, Long userId) {
-        TeamMember member = teamMemberRepository.findByTeam_IdAndUser_Id(teamId, userId)
+        TeamMember.TeamRole role = membershipCache.findRole(teamId, userId)
                 .orElseThrow(() -> new IllegalStateException("팀 멤버가 아닙니다"));
 
-        if (member.getRole() != TeamMember.TeamRole.OWNER &&
-                member.getRole() != TeamMember.TeamRole.ADMIN) {
+        if (role != TeamMember.TeamRole.OWNER && role != TeamMember.TeamRole.ADMIN) {
             throw new IllegalStateException("권한이 없습니다 (OWNER 또는 ADMIN만 가능)");
         }
     }
 
-    private void reorderCardsInSameColumn(Long boardId, KanbanCard.CardStatus status, int oldPosition, int newPosition) {
-        List<KanbanCard> cards = cardRepository.findByBoard_IdAndStatusOrderByPositionAsc(boardId, status);
-
-        if (oldPosition < newPosition) {
-            // 아래로 이동: oldPosition+1 ~ newPosition 사이 카드들을 -1
-            for (KanbanCard c : cards) {
-                if (c.getPosition() > oldPosition && c.getPosition() <= newPosition) {
-                    c.setPosition(c.getPosition() - 1);
-                }
-            }
-        } else if (oldPosition > newPosition) {
-            // 위로 이동: newPosition ~ oldPosition-1 사이 카드들을 +1
-            for (KanbanCard c : cards) {
-                if (c.getPosition() >= newPosition && c.getPosition() < oldPosition) {
-                    c.setPosition(c.getPosition() + 1);
-                }
-            }
+    /**
+     * 이동할 카드를 제외한 컬럼에서 targetIndex 자리에 들어갈 position 계산
+     * 앞/뒤 이웃 position을 한 건씩 조회해 중간값 사용, 간격이 없으면 null
+     */
+    private Long positionForIndex(Long boardId, KanbanCard.CardStatus status, Long cardId, int targetIndex) {
+        Long before = targetIndex > 0 ? positionAt(boardId, status, cardId, targetIndex - 1) : null;
+        Long after = positionAt(boardId, status, cardId, targetIndex);
+
+        if (after == null) {
+            // 맨 뒤 (targetIndex가 카드 수보다 크면 마지막 카드 뒤)
+            Long last = before != null ? before : cardRepository.findMaxPosition(boardId, status, cardId).orElse(null);
+            return last != null ? last + KanbanPositionRebalancer.POSITION_GAP : KanbanPositionRebalancer.POSITION_GAP;
+        }
+        if (before == null) {
+            // 맨 앞
+            return after - KanbanPositionRebalancer.POSITION_GAP;
         }
 
-        cardRepository.saveAll(cards);
-    }
-
-    private void reorderAfterRemoval(Long boardId, KanbanCard.CardStatus status, int removedPosition) {
-        List<KanbanCard> cards = cardRepository.findCardsAfterPosition(boardId, status, removedPosition);
-        for (KanbanCard c : cards) {
-            c.setPosition(c.getPosition() - 1);
+        long gap = after - before;
+        if (gap < 2) {
+            return null;
         }
-        cardRepository.saveAll(cards);
+        if (gap < KanbanPositionRebalancer.MIN_GAP * 2) {
+            // 간격이 좁아지는 중 → 백그라운드 재배치 예약
+            positionRebalancer.request(boardId, status);
+        }
+        return before + gap / 2;
     }
 
-    private void insertCardIntoColumn(Long boardId, KanbanCard.CardStatus status, int insertPosition) {
-        List<KanbanCard> cards = cardRepository.findCardsAfterPosition(boardId, status, insertPosition);
-        for (KanbanCard c : cards) {
-            c.setPosition(c.getPosition() + 1);
-        }
-        cardRepository.saveAll(cards);
+    private Long positionAt(Long boardId, KanbanCard.CardStatus status, Long cardId, int index) {
+        List<Long> positions = cardRepository.findPositionsExcluding(boardId, status, cardId, PageRequest.of(index, 1));
+        return positions.isEmpty() ? null : positions.get(0);
     }
 
     // 체크리스트 아이템 추가
     @Transactional
-    public KanbanCardResponse addChecklistItem(Long boardId, Long cardId, ChecklistItemRequest request, Long currentUserId) {
+    public KanbanChecklistDeltaResponse addChecklistItem(Long boardId, Long cardId, ChecklistItemRequest request, Long currentUserId) {
+        long revision = lockBoardForMember(boardId, currentUserId);
+
         KanbanCard card = cardRepository.findByIdAndBoard_Id(cardId, boardId)
                 .orElseThrow(() -> new IllegalArgumentException("카드를 찾을 수 없습니다: " + cardId));
 
-        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(card.getBoard().getTeam().getId(), currentUserId)) {
-            throw new IllegalStateException("접근 권한이 없습니다");
-        }
-
-        List<KanbanChecklistItem> existingItems = checklistItemRepository.findByCard_IdOrderByPositionAsc(cardId);
-        int newPosition = existingItems.isEmpty() ? 0 : existingItems.get(existingItems.size() - 1).getPosition() + 1;
+        int newPosition = checklistItemRepository.findMaxPosition(cardId).map(last -> last + 1).orElse(0);
 
         KanbanChecklistItem item = KanbanChecklistItem.builder()
                 .card(card)
@@ -351,31 +526,45 @@ public class KanbanService {
                 .build();
 
         checklistItemRepository.save(item);
+        cardRepository.adjustChecklistCounts(cardId, 1, 0);
+        changeLog.cardChanged(boardId, revision, cardId);
 
         log.info("체크리스트 아이템 추가 완료 - cardId: {}, itemId: {}", cardId, item.getId());
 
-        return KanbanCardResponse.from(cardRepository.findById(cardId).orElseThrow());
+        return checklistDelta(card, revision, item, null, 1, 0);
     }
 
     // 체크리스트 아이템 토글
+    // 대상 조회 1번 + 항목/카드 완료 개수 UPDATE 1문장 (카드·항목 엔티티를 읽지 않음)
+    // 진행률도 카드 스냅샷에 포함되므로 다른 클라이언트의 델타 동기화를 위해 보드 revision/변경 로그는 유지
     @Transactional
-    public KanbanCardResponse toggleChecklistItem(Long boardId, Long cardId, Long itemId, Long currentUserId) {
-        KanbanCard card = cardRepository.findByIdAndBoard_Id(cardId, boardId)
-                .orElseThrow(() -> new IllegalArgumentException("카드를 찾을 수 없습니다: " + cardId));
-
-        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(card.getBoard().getTeam().getId(), currentUserId)) {
-            throw new IllegalStateException("접근 권한이 없습니다");
-        }
+    public KanbanChecklistDeltaResponse toggleChecklistItem(Long boardId, Long cardId, Long itemId, Long currentUserId) {
+        long revision = lockBoardForMember(boardId, currentUserId);
 
-        KanbanChecklistItem item = checklistItemRepository.findById(itemId)
+        ChecklistToggleTargetView target = checklistItemRepository.findToggleTarget(boardId, cardId, itemId)
                 .orElseThrow(() -> new IllegalArgumentException("체크리스트 아이템을 찾을 수 없습니다: " + itemId));
 
-        item.setCompleted(!item.getCompleted());
-        checklistItemRepository.save(item);
-
-        log.info("체크리스트 아이템 토글 완료 - itemId: {}, completed: {}", itemId, item.getCompleted());
-
-        return KanbanCardResponse.from(cardRepository.findById(cardId).orElseThrow());
+        boolean completed = !target.getCompleted();
+        int doneDelta = completed ? 1 : -1;
+        if (checklistItemRepository.updateCompletedWithCount(itemId, completed, doneDelta) == 0) {
+            throw new IllegalArgumentException("체크리스트 아이템을 찾을 수 없습니다: " + itemId);
+        }
+        changeLog.cardChanged(boardId, revision, cardId);
+
+        log.info("체크리스트 아이템 토글 완료 - itemId: {}, completed: {}", itemId, completed);
+
+        return KanbanChecklistDeltaResponse.builder()
+                .cardId(cardId)
+                .item(KanbanCardResponse.ChecklistItemResponse.builder()
+                        .id(target.getId())
+                        .text(target.getText())
+                        .completed(completed)
+                        .position(target.getPosition())
+                        .build())
+                .checklistTotal(target.getChecklistTotal())
+                .checklistCompleted(target.getChecklistDone() + doneDelta)
+                .boardRevision(revision)
+                .build();
     }
 
     // ========================================
@@ -386,7 +575,7 @@ public class KanbanService {
         KanbanCard card = cardRepository.findByIdAndBoard_Id(cardId, boardId)
                 .orElseThrow(() -> new IllegalArgumentException("카드를 찾을 수 없습니다: " + cardId));
 
-        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(card.getBoard().getTeam().getId(), currentUserId)) {
+        if (!membershipCache.isMember(card.getBoard().getTeam().getId(), currentUserId)) {
             throw new IllegalStateException("접근 권한이 없습니다");
         }
 
@@ -398,13 +587,11 @@ public class KanbanService {
 
     @Transactional
     public KanbanCardCommentResponse addComment(Long boardId, Long cardId, KanbanCardCommentRequest request, Long currentUserId) {
+        long revision = lockBoardForMember(boardId, currentUserId, "팀 멤버만 댓글을 작성할 수 있습니다");
+
         KanbanCard card = cardRepository.findByIdAndBoard_Id(cardId, boardId)
                 .orElseThrow(() -> new IllegalArgumentException("카드를 찾을 수 없습니다: " + cardId));
 
-        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(card.getBoard().getTeam().getId(), currentUserId)) {
-            throw new IllegalStateException("팀 멤버만 댓글을 작성할 수 있습니다");
-        }
-
         User user = userRepository.findById(currentUserId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + currentUserId));
 
@@ -415,6 +602,7 @@ public class KanbanService {
                 .build();
 
         KanbanCardComment saved = commentRepository.save(comment);
+        changeLog.cardChanged(boardId, revision, cardId);
 
         log.info("댓글 추가 완료 - cardId: {}, commentId: {}, userId: {}", cardId, saved.getId(), currentUserId);
 
@@ -423,32 +611,58 @@ public class KanbanService {
 
     @Transactional
     public void deleteComment(Long boardId, Long cardId, Long commentId, Long currentUserId) {
+        // 작성자 확인까지 끝난 요청만 보드 잠금 (남의 댓글 삭제 시도가 같은 보드의 쓰기를 줄 세우지 않도록)
         KanbanCardComment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다: " + commentId));
 
+        // 다른 보드/카드의 댓글을 이 보드의 변경으로 기록하지 않도록 확인
+        if (!comment.getCard().getId().equals(cardId) || !comment.getCard().getBoard().getId().equals(boardId)) {
+            throw new IllegalArgumentException("댓글을 찾을 수 없습니다: " + commentId);
+        }
+
         if (!comment.getUser().getId().equals(currentUserId)) {
             throw new IllegalStateException("댓글 작성자만 삭제할 수 있습니다");
         }
 
+        long revision = lockBoardForWrite(boardId);
         commentRepository.delete(comment);
+        changeLog.cardChanged(boardId, revision, cardId);
 
         log.info("댓글 삭제 완료 - commentId: {}, deletedBy: {}", commentId, currentUserId);
     }
 
     // 체크리스트 아이템 삭제
     @Transactional
-    public KanbanCardResponse deleteChecklistItem(Long boardId, Long cardId, Long itemId, Long currentUserId) {
+    public KanbanChecklistDeltaResponse deleteChecklistItem(Long boardId, Long cardId, Long itemId, Long currentUserId) {
+        long revision = lockBoardForMember(boardId, currentUserId);
+
         KanbanCard card = cardRepository.findByIdAndBoard_Id(cardId, boardId)
                 .orElseThrow(() -> new IllegalArgumentException("카드를 찾을 수 없습니다: " + cardId));
 
-        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(card.getBoard().getTeam().getId(), currentUserId)) {
-            throw new IllegalStateException("접근 권한이 없습니다");
-        }
+        KanbanChecklistItem item = checklistItemRepository.findByIdAndCard_Id(itemId, cardId)
+                .orElseThrow(() -> new IllegalArgumentException("체크리스트 아이템을 찾을 수 없습니다: " + itemId));
 
-        checklistItemRepository.deleteById(itemId);
+        int doneDelta = item.getCompleted() ? -1 : 0;
+        checklistItemRepository.delete(item);
+        cardRepository.adjustChecklistCounts(cardId, -1, doneDelta);
+        changeLog.cardChanged(boardId, revision, cardId);
 
         log.info("체크리스트 아이템 삭제 완료 - itemId: {}", itemId);
 
-        return KanbanCardResponse.from(cardRepository.findById(cardId).orElseThrow());
+        return checklistDelta(card, revision, null, itemId, -1, doneDelta);
+    }
+
+    // card는 보드 잠금 이후에 읽은 값 → 상대 갱신한 만큼 더해서 응답 (카드를 다시 읽지 않음)
+    private KanbanChecklistDeltaResponse checklistDelta(KanbanCard card, long revision,
+                                                        KanbanChecklistItem item, Long deletedItemId,
+                                                        int totalDelta, int doneDelta) {
+        return KanbanChecklistDeltaResponse.builder()
+                .cardId(card.getId())
+                .item(item != null ? KanbanCardResponse.ChecklistItemResponse.from(item) : null)
+                .deletedItemId(deletedItemId)
+                .checklistTotal(card.getChecklistTotal() + totalDelta)
+                .checklistCompleted(card.getChecklistDone() + doneDelta)
+                .boardRevision(revision)
+                .build();
     }
 }
\ No newline at end of file
@@ -5,6 +5,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -19,4 +23,12 @@ public class PostLikeService {
         }
         return postLikeRepository.existsByPostIdAndUserId(postId, userId);
     }
+
+    // 여러 게시글에 대한 좋아요 여부를 쿼리 1번으로 조회
+    public Set<Long> getLikedPostIds(Collection<Long> postIds, Long userId) {
+        if (userId == null || postIds == null || postIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(postLikeRepository.findLikedPostIds(userId, postIds));
+    }
 }
\ No newline at end of file
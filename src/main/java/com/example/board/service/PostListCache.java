@@ -0,0 +1,129 @@
+package com.example.board.service;
+
+import com.example.board.dto.response.PostSummaryResponse;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 목록 앞 페이지 캐시 (검색어 없는 목록만 대상)
+ *
+ * - 키: (카테고리, 태그, 정렬, 페이지, 크기), 앞쪽 max-pages 페이지만 캐시
+ * - 값: 사용자와 무관한 요약 목록 (좋아요 여부/비밀글 가림/미반영 조회수는 조회 후 덧씌움)
+ * - TTL 만료 + 게시글 작성/수정/삭제, 조회수 반영 시 전체 무효화
+ * - 크기 제한 LRU (max-entries 초과 시 가장 오래 안 쓴 항목 제거)
+ * - 무효화 도중 읽어온 결과가 다시 저장되지 않도록 세대(generation) 번호로 확인
+ */
+@Component
+@Slf4j
+public class PostListCache {
+
+    @Value("${post.list-cache.ttl:10000}")
+    private long ttlMillis;
+
+    @Value("${post.list-cache.max-pages:3}")
+    private int maxPages;
+
+    @Value("${post.list-cache.max-entries:500}")
+    private int maxEntries;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Map<Key, CachedPage> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CachedPage> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    public boolean isCacheable(int page, String keyword) {
+        return maxPages > 0 && page < maxPages && (keyword == null || keyword.trim().isEmpty());
+    }
+
+    public Key key(Long categoryId, String tagName, String sort, int page, int size) {
+        String normalizedTag = tagName != null && !tagName.isEmpty() ? tagName : null;
+        String normalizedSort = sort != null && !sort.isEmpty() ? sort : "createdAt,desc";
+        return new Key(categoryId, normalizedTag, normalizedSort, page, size);
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public CachedPage get(Key key) {
+        synchronized (entries) {
+            CachedPage cached = entries.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.expiresAt < System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    // 조회 시작 시점의 세대와 다르면 (그 사이 무효화됨) 저장하지 않음
+    public void put(Key key, long loadedGeneration, List<PostSummaryResponse> posts, int total, int totalPages) {
+        CachedPage cached = new CachedPage(List.copyOf(posts), total, totalPages, System.currentTimeMillis() + ttlMillis);
+        synchronized (entries) {
+            if (generation.get() == loadedGeneration) {
+                entries.put(key, cached);
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후 무효화 (커밋 전 무효화하면 이전 데이터가 다시 캐시될 수 있음)
+     */
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateAll();
+                }
+            });
+        } else {
+            invalidateAll();
+        }
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    public static class Key {
+        private final Long categoryId;
+        private final String tagName;
+        private final String sort;
+        private final int page;
+        private final int size;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedPage {
+        private final List<PostSummaryResponse> posts;
+        private final int total;
+        private final int totalPages;
+        private final long expiresAt;
+    }
+}
@@ -0,0 +1,927 @@
+package com.example.board.service;
+
+import com.example.board.entity.Post;
+import com.example.board.entity.Tag;
+import com.example.board.repository.PostRepository;
+import com.example.board.repository.projection.PostTagView;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 인메모리 게시글 검색 인덱스 (search.engine=memory 일 때 사용)
+ *
+ * - 문자 bigram 토큰화 (한국어 부분 일치 검색용), 토큰은 두 글자를 int 하나로 인코딩
+ * - 토큰별 posting list는 int[] (내부 문서 번호, 출현 빈도)
+ * - 검색어의 모든 bigram을 포함하는 문서만 반환 (AND), BM25 점수로 정렬
+ * - 시작 시 스냅샷 파일 + DB 변경분으로 복구, 스냅샷이 없으면 DB 전체 로딩
+ * - 게시글 작성/수정/삭제는 트랜잭션 커밋 후 인덱스에 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x50534958;  // "PSIX"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int BOOTSTRAP_BATCH_SIZE = 500;
+    private static final long NO_CATEGORY = -1L;
+    private static final long[] NO_TAGS = new long[0];
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final PostRepository postRepository;
+
+    @Value("${search.engine:fulltext}")
+    private String engine;
+
+    @Value("${search.memory.snapshot-path:./data/post-search-index.bin}")
+    private String snapshotPath;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 토큰 → posting list
+    private Map<Integer, PostingList> postings = new HashMap<>();
+
+    // 내부 문서 번호로 접근하는 문서 정보
+    private long[] docPostIds = new long[1024];
+    private long[] docCategoryIds = new long[1024];
+    private long[] docCreatedAt = new long[1024];
+    private int[] docLengths = new int[1024];
+    private long[][] docTagIds = new long[1024][];
+    private int[][] docTerms = new int[1024][];  // 문서의 중복 없는 토큰 (삭제 시 posting list의 live 감소용)
+    private BitSet deletedDocs = new BitSet();
+    private int docCount = 0;
+    private int deletedCount = 0;
+    private long totalLength = 0;
+
+    private Map<Long, Integer> docIdByPostId = new HashMap<>();
+    private final Map<String, Long> tagIdByName = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    public boolean isEnabled() {
+        return "memory".equalsIgnoreCase(engine);
+    }
+
+    // ========================================
+    // 검색
+    // ========================================
+
+    /**
+     * 키워드 + 카테고리/태그 검색
+     *
+     * @return 인덱스를 사용할 수 없으면 null (준비 전이거나 2글자 미만 검색어) → 호출 측에서 DB 검색으로 대체
+     */
+    public PostSearchResult search(String keyword, Long categoryId, String tagName,
+                                   boolean sortByRecency, int page, int size) {
+        if (!isEnabled() || !ready) {
+            return null;
+        }
+
+        int[] queryTerms = queryTerms(keyword);
+        if (queryTerms == null) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            long tagId = NO_CATEGORY;
+            if (tagName != null && !tagName.isEmpty()) {
+                Long found = tagIdByName.get(tagName.trim().toLowerCase());
+                if (found == null) {
+                    return new PostSearchResult(Collections.emptyList(), 0);
+                }
+                tagId = found;
+            }
+
+            PostingList[] lists = new PostingList[queryTerms.length];
+            for (int i = 0; i < queryTerms.length; i++) {
+                lists[i] = postings.get(queryTerms[i]);
+                if (lists[i] == null) {
+                    return new PostSearchResult(Collections.emptyList(), 0);
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+            int liveDocs = Math.max(docCount - deletedCount, 1);
+            double avgLength = Math.max((double) totalLength / liveDocs, 1.0);
+
+            double[] idf = new double[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                int df = Math.max(lists[i].live, 1);  // 삭제 표시된 문서는 제외한 문서 빈도
+                idf[i] = Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+            }
+
+            // 가장 짧은 posting list를 기준으로 나머지 list와 교집합 + BM25 점수 계산
+            int[] cursors = new int[lists.length];
+            int[] hitDocs = new int[Math.min(lists[0].size, 1024)];
+            double[] hitScores = new double[hitDocs.length];
+            int hitCount = 0;
+
+            PostingList shortest = lists[0];
+            candidates:
+            for (int p = 0; p < shortest.size; p++) {
+                int doc = shortest.docs[p];
+
+                if (deletedDocs.get(doc)) {
+                    continue;
+                }
+                if (categoryId != null && docCategoryIds[doc] != categoryId) {
+                    continue;
+                }
+                if (tagId != NO_CATEGORY && !containsTag(docTagIds[doc], tagId)) {
+                    continue;
+                }
+
+                double lengthNorm = K1 * (1 - B + B * docLengths[doc] / avgLength);
+                double score = bm25(shortest.freqs[p], lengthNorm, idf[0]);
+
+                for (int i = 1; i < lists.length; i++) {
+                    PostingList list = lists[i];
+                    int pos = Arrays.binarySearch(list.docs, cursors[i], list.size, doc);
+                    if (pos < 0) {
+                        cursors[i] = -pos - 1;
+                        continue candidates;
+                    }
+                    cursors[i] = pos + 1;
+                    score += bm25(list.freqs[pos], lengthNorm, idf[i]);
+                }
+
+                if (hitCount == hitDocs.length) {
+                    hitDocs = Arrays.copyOf(hitDocs, hitCount * 2);
+                    hitScores = Arrays.copyOf(hitScores, hitCount * 2);
+                }
+                hitDocs[hitCount] = doc;
+                hitScores[hitCount] = score;
+                hitCount++;
+            }
+
+            // 요청한 페이지 끝까지만 필요 → 크기 k인 힙으로 상위 k개만 정렬 (전체 정렬 없음, 박싱 없음)
+            int from = Math.min(page * size, hitCount);
+            int to = Math.min(from + size, hitCount);
+            final int[] docs = hitDocs;
+            final double[] scores = hitScores;
+            HitOrder order = sortByRecency
+                    ? (a, b) -> Long.compare(docCreatedAt[docs[b]], docCreatedAt[docs[a]])
+                    : (a, b) -> {
+                        int byScore = Double.compare(scores[b], scores[a]);
+                        return byScore != 0 ? byScore : Long.compare(docCreatedAt[docs[b]], docCreatedAt[docs[a]]);
+                    };
+            int[] top = topK(hitCount, to, order);
+
+            List<Long> postIds = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                postIds.add(docPostIds[docs[top[i]]]);
+            }
+
+            return new PostSearchResult(postIds, hitCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색 결과 순서 (음수면 a가 앞)
+    private interface HitOrder {
+        int compare(int a, int b);
+    }
+
+    /**
+     * 0..count-1 중 order 기준 상위 k개를 순서대로 반환
+     * 힙 루트에 지금까지 남긴 것 중 가장 뒤 순위를 두고, 그보다 앞서는 것만 교체 → O(count · log k)
+     */
+    private static int[] topK(int count, int k, HitOrder order) {
+        int[] heap = new int[k];
+        int heapSize = 0;
+        for (int hit = 0; hit < count && k > 0; hit++) {
+            if (heapSize < k) {
+                heap[heapSize] = hit;
+                siftUp(heap, heapSize++, order);
+            } else if (order.compare(hit, heap[0]) < 0) {
+                heap[0] = hit;
+                siftDown(heap, heapSize, order);
+            }
+        }
+
+        // 루트(가장 뒤 순위)부터 꺼내 뒤에서부터 채움
+        int[] sorted = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            sorted[i] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, order);
+        }
+        return sorted;
+    }
+
+    private static void siftUp(int[] heap, int index, HitOrder order) {
+        int value = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (order.compare(heap[parent], value) >= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private static void siftDown(int[] heap, int size, HitOrder order) {
+        if (size == 0) {
+            return;
+        }
+        int value = heap[0];
+        int index = 0;
+        while (true) {
+            int child = index * 2 + 1;
+            if (child >= size) {
+                break;
+            }
+            // 두 자식 중 더 뒤 순위
+            if (child + 1 < size && order.compare(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (order.compare(heap[child], value) <= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+
+    private static double bm25(int tf, double lengthNorm, double idf) {
+        return idf * (tf * (K1 + 1)) / (tf + lengthNorm);
+    }
+
+    private static boolean containsTag(long[] tagIds, long tagId) {
+        for (long id : tagIds) {
+            if (id == tagId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ========================================
+    // 증분 업데이트 (PostService에서 호출)
+    // ========================================
+
+    /**
+     * 게시글 색인 (트랜잭션 안이면 커밋 후 반영)
+     * 태그/카테고리는 호출 시점에 읽어두므로 영속성 컨텍스트 안에서 호출해야 함
+     */
+    public void index(Post post) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Map<Long, String> tags = new HashMap<>();
+        for (Tag tag : post.getTags()) {
+            tags.put(tag.getId(), tag.getName());
+        }
+        IndexedPost doc = toIndexedPost(post, tags);
+
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeInternal(doc.postId);
+                addInternal(doc);
+                compactIfNeeded();  // 수정도 이전 문서를 삭제 표시로 남김
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 게시글 색인 제거 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void remove(Long postId) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeInternal(postId);
+                compactIfNeeded();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private IndexedPost toIndexedPost(Post post, Map<Long, String> tags) {
+        // 비밀글은 제목만 색인 (본문 내용이 검색으로 노출되지 않도록)
+        String text = Boolean.TRUE.equals(post.getIsSecret())
+                ? post.getTitle()
+                : post.getTitle() + " " + post.getContent();
+
+        LocalDateTime createdAt = post.getCreatedAt() != null ? post.getCreatedAt() : LocalDateTime.now();
+
+        return new IndexedPost(
+                post.getId(),
+                post.getCategory() != null ? post.getCategory().getId() : NO_CATEGORY,
+                createdAt.toEpochSecond(ZoneOffset.UTC),
+                tags,
+                tokenize(text));
+    }
+
+    // write lock 안에서 호출
+    private void addInternal(IndexedPost post) {
+        int doc = docCount;
+        ensureDocCapacity(doc + 1);
+
+        long[] tagIds = NO_TAGS;
+        if (!post.tags.isEmpty()) {
+            tagIds = new long[post.tags.size()];
+            int i = 0;
+            for (Map.Entry<Long, String> tag : post.tags.entrySet()) {
+                tagIds[i++] = tag.getKey();
+                tagIdByName.put(tag.getValue(), tag.getKey());
+            }
+        }
+
+        docPostIds[doc] = post.postId;
+        docCategoryIds[doc] = post.categoryId;
+        docCreatedAt[doc] = post.createdAt;
+        docLengths[doc] = post.tokens.length;
+        docTagIds[doc] = tagIds;
+        docCount++;
+        totalLength += post.tokens.length;
+        docIdByPostId.put(post.postId, doc);
+
+        // 토큰별 빈도 집계 후 posting list에 추가 (문서 번호는 항상 증가하므로 정렬 유지)
+        int[] tokens = post.tokens.clone();
+        Arrays.sort(tokens);
+        int[] terms = new int[tokens.length];
+        int termCount = 0;
+        int i = 0;
+        while (i < tokens.length) {
+            int token = tokens[i];
+            int j = i;
+            while (j < tokens.length && tokens[j] == token) {
+                j++;
+            }
+            postings.computeIfAbsent(token, t -> new PostingList()).add(doc, j - i);
+            terms[termCount++] = token;
+            i = j;
+        }
+        docTerms[doc] = Arrays.copyOf(terms, termCount);
+    }
+
+    // write lock 안에서 호출
+    private void removeInternal(long postId) {
+        Integer doc = docIdByPostId.remove(postId);
+        if (doc == null) {
+            return;
+        }
+        deletedDocs.set(doc);
+        deletedCount++;
+        totalLength -= docLengths[doc];
+
+        // posting 자체는 compact 때 정리, 문서 빈도(live)는 바로 반영
+        for (int token : docTerms[doc]) {
+            postings.get(token).live--;
+        }
+        docTerms[doc] = null;
+    }
+
+    private void ensureDocCapacity(int capacity) {
+        if (capacity <= docPostIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, docPostIds.length * 2);
+        docPostIds = Arrays.copyOf(docPostIds, newCapacity);
+        docCategoryIds = Arrays.copyOf(docCategoryIds, newCapacity);
+        docCreatedAt = Arrays.copyOf(docCreatedAt, newCapacity);
+        docLengths = Arrays.copyOf(docLengths, newCapacity);
+        docTagIds = Arrays.copyOf(docTagIds, newCapacity);
+        docTerms = Arrays.copyOf(docTerms, newCapacity);
+    }
+
+    // 삭제된 문서가 많이 쌓이면 문서 번호를 다시 매기고 posting list 정리 (write lock 안에서 호출)
+    private void compactIfNeeded() {
+        if (deletedCount < 1024 || deletedCount < (docCount - deletedCount) / 2) {
+            return;
+        }
+        compact();
+    }
+
+    private void compact() {
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deletedDocs.get(doc)) {
+                remap[doc] = -1;
+                continue;
+            }
+            remap[doc] = next;
+            docPostIds[next] = docPostIds[doc];
+            docCategoryIds[next] = docCategoryIds[doc];
+            docCreatedAt[next] = docCreatedAt[doc];
+            docLengths[next] = docLengths[doc];
+            docTagIds[next] = docTagIds[doc];
+            docTerms[next] = docTerms[doc];
+            next++;
+        }
+        Arrays.fill(docTagIds, next, docCount, null);
+        Arrays.fill(docTerms, next, docCount, null);
+
+        Map<Integer, PostingList> compacted = new HashMap<>(postings.size());
+        for (Map.Entry<Integer, PostingList> entry : postings.entrySet()) {
+            PostingList list = entry.getValue();
+            PostingList kept = new PostingList();
+            for (int i = 0; i < list.size; i++) {
+                int doc = remap[list.docs[i]];
+                if (doc >= 0) {
+                    kept.add(doc, list.freqs[i]);
+                }
+            }
+            if (kept.size > 0) {
+                compacted.put(entry.getKey(), kept);
+            }
+        }
+
+        Map<Long, Integer> ids = new HashMap<>(next * 2);
+        for (int doc = 0; doc < next; doc++) {
+            ids.put(docPostIds[doc], doc);
+        }
+
+        log.info("검색 인덱스 정리 완료 - 문서: {} → {}", docCount, next);
+
+        postings = compacted;
+        docIdByPostId = ids;
+        deletedDocs = new BitSet();
+        docCount = next;
+        deletedCount = 0;
+    }
+
+    // ========================================
+    // 토큰화 (문자 bigram)
+    // ========================================
+
+    /**
+     * 단어(글자/숫자 연속 구간)마다 인접한 두 글자를 int 하나로 인코딩: (c1 << 16) | c2
+     * 한 글자 단어는 (c << 16) 으로 인코딩
+     */
+    static int[] tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return new int[0];
+        }
+
+        String normalized = text.toLowerCase();
+        int[] tokens = new int[normalized.length()];
+        int count = 0;
+        int wordStart = -1;
+
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar) {
+                if (wordStart < 0) {
+                    wordStart = i;
+                }
+                continue;
+            }
+            if (wordStart >= 0) {
+                if (i - wordStart == 1) {
+                    tokens[count++] = normalized.charAt(wordStart) << 16;
+                } else {
+                    for (int k = wordStart; k < i - 1; k++) {
+                        tokens[count++] = (normalized.charAt(k) << 16) | normalized.charAt(k + 1);
+                    }
+                }
+                wordStart = -1;
+            }
+        }
+
+        return Arrays.copyOf(tokens, count);
+    }
+
+    // 검색어의 중복 없는 bigram 목록, 2글자 미만 단어가 있으면 null
+    private static int[] queryTerms(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        for (String word : keyword.trim().split("[^\\p{L}\\p{N}]+")) {
+            if (word.length() == 1) {
+                return null;
+            }
+        }
+        int[] terms = Arrays.stream(tokenize(keyword)).distinct().toArray();
+        return terms.length > 0 ? terms : null;
+    }
+
+    // ========================================
+    // 초기 로딩 / 스냅샷
+    // ========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        LocalDateTime snapshotAt = null;
+
+        try {
+            snapshotAt = loadSnapshot();
+        } catch (IOException e) {
+            log.warn("검색 인덱스 스냅샷 로딩 실패 - DB에서 다시 색인합니다: {}", e.getMessage());
+            reset();
+        }
+
+        if (snapshotAt != null) {
+            catchUp(snapshotAt);
+        } else {
+            rebuildFromRepository();
+        }
+
+        ready = true;
+        log.info("검색 인덱스 준비 완료 - 문서: {}, 토큰: {}, 소요: {}ms",
+                docCount - deletedCount, postings.size(), System.currentTimeMillis() - start);
+    }
+
+    @Scheduled(fixedDelayString = "${search.memory.snapshot-interval:300000}",
+            initialDelayString = "${search.memory.snapshot-interval:300000}")
+    public void scheduledSnapshot() {
+        if (!isEnabled() || !ready) {
+            return;
+        }
+        try {
+            writeSnapshot();
+        } catch (IOException e) {
+            log.error("검색 인덱스 스냅샷 저장 실패", e);
+        }
+    }
+
+    private void reset() {
+        lock.writeLock().lock();
+        try {
+            postings = new HashMap<>();
+            docIdByPostId = new HashMap<>();
+            Arrays.fill(docTerms, null);
+            tagIdByName.clear();
+            deletedDocs = new BitSet();
+            docCount = 0;
+            deletedCount = 0;
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rebuildFromRepository() {
+        int page = 0;
+        Page<Post> batch;
+        do {
+            batch = postRepository.findAll(PageRequest.of(page++, BOOTSTRAP_BATCH_SIZE, Sort.by("id")));
+            indexBatch(batch.getContent());
+        } while (batch.hasNext());
+    }
+
+    // 스냅샷 이후 변경분 반영: 삭제된 게시글 제거, 수정/추가된 게시글 재색인
+    private void catchUp(LocalDateTime snapshotAt) {
+        Set<Long> liveIds = new HashSet<>(postRepository.findAllIds());
+
+        lock.writeLock().lock();
+        try {
+            for (Long postId : new ArrayList<>(docIdByPostId.keySet())) {
+                if (!liveIds.contains(postId)) {
+                    removeInternal(postId);
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Set<Long> missingIds;
+        lock.readLock().lock();
+        try {
+            missingIds = liveIds.stream()
+                    .filter(id -> !docIdByPostId.containsKey(id))
+                    .collect(Collectors.toSet());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 스냅샷 저장 중에 수정된 게시글도 포함되도록 1분 여유
+        List<Post> changed = new ArrayList<>(postRepository.findByUpdatedAtAfter(snapshotAt.minusMinutes(1)));
+        changed.removeIf(post -> missingIds.contains(post.getId()));
+        if (!missingIds.isEmpty()) {
+            changed.addAll(postRepository.findByIdIn(missingIds));
+        }
+        indexBatch(changed);
+    }
+
+    private void indexBatch(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Map<Long, String>> tagsByPostId = new HashMap<>();
+        List<Long> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
+        for (PostTagView view : postRepository.findTagsByPostIds(postIds)) {
+            tagsByPostId.computeIfAbsent(view.getPostId(), id -> new HashMap<>())
+                    .put(view.getTagId(), view.getName());
+        }
+
+        List<IndexedPost> docs = posts.stream()
+                .map(post -> toIndexedPost(post, tagsByPostId.getOrDefault(post.getId(), Collections.emptyMap())))
+                .collect(Collectors.toList());
+
+        lock.writeLock().lock();
+        try {
+            for (IndexedPost doc : docs) {
+                removeInternal(doc.postId);
+                addInternal(doc);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void writeSnapshot() throws IOException {
+        Path target = Paths.get(snapshotPath).toAbsolutePath().normalize();
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        LocalDateTime snapshotAt = LocalDateTime.now();
+
+        // read lock 안에서는 복사만 (문서 배열은 compact가 제자리에서 바꾸므로 복사,
+        // posting list는 뒤에 추가만 되므로 [0, size) 구간 참조만 보관) → 압축/디스크 쓰기는 잠금 밖에서
+        int count;
+        long[] postIds;
+        long[] categoryIds;
+        long[] createdAt;
+        int[] lengths;
+        long[][] tagIds;
+        BitSet deleted;
+        Map<String, Long> tagNames;
+        List<FrozenPostingList> frozenPostings;
+        lock.readLock().lock();
+        try {
+            count = docCount;
+            postIds = Arrays.copyOf(docPostIds, count);
+            categoryIds = Arrays.copyOf(docCategoryIds, count);
+            createdAt = Arrays.copyOf(docCreatedAt, count);
+            lengths = Arrays.copyOf(docLengths, count);
+            tagIds = Arrays.copyOf(docTagIds, count);
+            deleted = (BitSet) deletedDocs.clone();
+            tagNames = new HashMap<>(tagIdByName);
+            frozenPostings = new ArrayList<>(postings.size());
+            for (Map.Entry<Integer, PostingList> entry : postings.entrySet()) {
+                PostingList list = entry.getValue();
+                frozenPostings.add(new FrozenPostingList(entry.getKey(), list.docs, list.freqs, list.size));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 스냅샷은 정리된 상태로 저장 (삭제 문서 제외, 문서 번호 0..n-1)
+        int[] remap = new int[count];
+        int live = 0;
+        for (int doc = 0; doc < count; doc++) {
+            remap[doc] = deleted.get(doc) ? -1 : live++;
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(temp))))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeUTF(snapshotAt.toString());
+
+            out.writeInt(live);
+            for (int doc = 0; doc < count; doc++) {
+                if (remap[doc] < 0) {
+                    continue;
+                }
+                out.writeLong(postIds[doc]);
+                out.writeLong(categoryIds[doc]);
+                out.writeLong(createdAt[doc]);
+                out.writeInt(lengths[doc]);
+                out.writeInt(tagIds[doc].length);
+                for (long tagId : tagIds[doc]) {
+                    out.writeLong(tagId);
+                }
+            }
+
+            out.writeInt(tagNames.size());
+            for (Map.Entry<String, Long> tag : tagNames.entrySet()) {
+                out.writeUTF(tag.getKey());
+                out.writeLong(tag.getValue());
+            }
+
+            // 삭제 문서만 남은 posting list는 제외
+            int termCount = 0;
+            int[] liveSizes = new int[frozenPostings.size()];
+            for (int t = 0; t < frozenPostings.size(); t++) {
+                FrozenPostingList list = frozenPostings.get(t);
+                for (int i = 0; i < list.size; i++) {
+                    if (remap[list.docs[i]] >= 0) {
+                        liveSizes[t]++;
+                    }
+                }
+                if (liveSizes[t] > 0) {
+                    termCount++;
+                }
+            }
+
+            out.writeInt(termCount);
+            for (int t = 0; t < frozenPostings.size(); t++) {
+                if (liveSizes[t] == 0) {
+                    continue;
+                }
+                FrozenPostingList list = frozenPostings.get(t);
+                out.writeInt(list.token);
+                out.writeInt(liveSizes[t]);
+                for (int i = 0; i < list.size; i++) {
+                    int doc = remap[list.docs[i]];
+                    if (doc >= 0) {
+                        out.writeInt(doc);
+                        out.writeInt(list.freqs[i]);
+                    }
+                }
+            }
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("검색 인덱스 스냅샷 저장 완료 - {}", target);
+    }
+
+    // 스냅샷이 없으면 null
+    private LocalDateTime loadSnapshot() throws IOException {
+        Path source = Paths.get(snapshotPath).toAbsolutePath().normalize();
+        if (!Files.exists(source)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(source))))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("지원하지 않는 스냅샷 형식입니다.");
+            }
+            LocalDateTime snapshotAt = LocalDateTime.parse(in.readUTF());
+
+            lock.writeLock().lock();
+            try {
+                int count = in.readInt();
+                ensureDocCapacity(count);
+                for (int doc = 0; doc < count; doc++) {
+                    docPostIds[doc] = in.readLong();
+                    docCategoryIds[doc] = in.readLong();
+                    docCreatedAt[doc] = in.readLong();
+                    docLengths[doc] = in.readInt();
+                    long[] tagIds = new long[in.readInt()];
+                    for (int i = 0; i < tagIds.length; i++) {
+                        tagIds[i] = in.readLong();
+                    }
+                    docTagIds[doc] = tagIds.length == 0 ? NO_TAGS : tagIds;
+                    docIdByPostId.put(docPostIds[doc], doc);
+                    totalLength += docLengths[doc];
+                }
+                docCount = count;
+
+                int tagCount = in.readInt();
+                for (int i = 0; i < tagCount; i++) {
+                    tagIdByName.put(in.readUTF(), in.readLong());
+                }
+
+                int termCount = in.readInt();
+                for (int t = 0; t < termCount; t++) {
+                    int token = in.readInt();
+                    int size = in.readInt();
+                    PostingList list = new PostingList(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(in.readInt(), in.readInt());
+                    }
+                    postings.put(token, list);
+                }
+
+                // 문서별 토큰 목록은 posting list에서 다시 구성
+                int[] termCounts = new int[count];
+                for (PostingList list : postings.values()) {
+                    for (int i = 0; i < list.size; i++) {
+                        termCounts[list.docs[i]]++;
+                    }
+                }
+                for (int doc = 0; doc < count; doc++) {
+                    docTerms[doc] = new int[termCounts[doc]];
+                    termCounts[doc] = 0;
+                }
+                for (Map.Entry<Integer, PostingList> entry : postings.entrySet()) {
+                    PostingList list = entry.getValue();
+                    for (int i = 0; i < list.size; i++) {
+                        int doc = list.docs[i];
+                        docTerms[doc][termCounts[doc]++] = entry.getKey();
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("검색 인덱스 스냅샷 로딩 완료 - {} ({})", source, snapshotAt);
+            return snapshotAt;
+        }
+    }
+
+    // ========================================
+    // 내부 자료구조
+    // ========================================
+
+    private static class PostingList {
+        private int[] docs;
+        private int[] freqs;
+        private int size;
+        private int live;  // 삭제 표시되지 않은 문서 수 (BM25 문서 빈도)
+
+        PostingList() {
+            this(4);
+        }
+
+        PostingList(int capacity) {
+            this.docs = new int[Math.max(capacity, 1)];
+            this.freqs = new int[Math.max(capacity, 1)];
+        }
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+            live++;
+        }
+    }
+
+    // 스냅샷 저장용 posting list 참조 ([0, size) 구간은 이후에도 바뀌지 않음)
+    @AllArgsConstructor
+    private static class FrozenPostingList {
+        private final int token;
+        private final int[] docs;
+        private final int[] freqs;
+        private final int size;
+    }
+
+    @AllArgsConstructor
+    private static class IndexedPost {
+        private final long postId;
+        private final long categoryId;
+        private final long createdAt;
+        private final Map<Long, String> tags;
+        private final int[] tokens;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PostSearchResult {
+        private final List<Long> postIds;  // 요청한 페이지의 게시글 ID (검색 순서)
+        private final long total;
+    }
+}
@@ -1,13 +1,21 @@
 package com.example.board.service;
 
 import com.example.board.dto.request.CreatePostRequest;
+import com.example.board.dto.response.PostCursorResponse;
 import com.example.board.dto.response.PostListResponse;
 import com.example.board.dto.response.PostResponse;
+import com.example.board.dto.response.PostSummaryResponse;
+import com.example.board.dto.response.TagResponse;
 import com.example.board.dto.request.UpdatePostRequest;
 import com.example.board.entity.*;
 import com.example.board.repository.*;
+import com.example.board.repository.projection.PostCountView;
+import com.example.board.repository.projection.PostLikeTargetView;
+import com.example.board.repository.projection.PostSearchHit;
+import com.example.board.repository.projection.PostTagView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -16,7 +24,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,6 +48,22 @@ public class PostService {
     private final PostAttachmentRepository attachmentRepository;
     private final PasswordEncoder passwordEncoder;
     private final TagService tagService;
+    private final PostSearchIndex postSearchIndex;
+    private final PostViewCountService postViewCountService;
+    private final PostListCache postListCache;
+
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    private static final int MAX_CURSOR_SIZE = 100;  // 커서 조회 한 번에 가져오는 최대 게시글 수
+    private static final Pattern FULLTEXT_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+    private static final Map<String, String> SEARCH_SORT_COLUMNS = Map.of(
+            "createdAt", "created_at",
+            "updatedAt", "updated_at",
+            "views", "views",
+            "likeCount", "like_count",
+            "commentCount", "comment_count",
+            "title", "title",
+            "id", "id"
+    );
 
     public PostListResponse getPosts(int page, int size, String sort, Long userId, Long categoryId, String tagName, String keyword) {
         Pageable pageable;
@@ -49,12 +80,56 @@ public class PostService {
             pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         }
 
+        // ✅ 검색어 없는 앞쪽 페이지는 캐시 사용 (사용자별 정보는 꺼낸 뒤 덧씌움)
+        boolean cacheable = postListCache.isCacheable(page, keyword);
+        PostListCache.Key cacheKey = null;
+        long cacheGeneration = 0;
+
+        if (cacheable) {
+            cacheKey = postListCache.key(categoryId, tagName, sort, page, size);
+            PostListCache.CachedPage cached = postListCache.get(cacheKey);
+            if (cached != null) {
+                return PostListResponse.builder()
+                        .posts(applyViewer(cached.getPosts(), userId))
+                        .total(cached.getTotal())
+                        .page(page)
+                        .size(size)
+                        .totalPages(cached.getTotalPages())
+                        .build();
+            }
+            cacheGeneration = postListCache.currentGeneration();
+        }
+
         // ✅ 검색어가 있는 경우
         Page<Post> postPage;
 
         if (keyword != null && !keyword.trim().isEmpty()) {
-            // 검색 + 필터 조합
-            if (categoryId != null && tagName != null && !tagName.isEmpty()) {
+            // ✅ 인메모리 검색 인덱스 사용 가능하면 우선 사용 (search.engine=memory)
+            PostSearchIndex.PostSearchResult indexResult = isIndexSortable(sort)
+                    ? postSearchIndex.search(keyword, categoryId, tagName, sort != null && sort.startsWith("createdAt"), page, size)
+                    : null;
+            String fullTextQuery = toFullTextQuery(keyword);
+
+            if (indexResult != null) {
+                postPage = loadPostsInOrder(indexResult.getPostIds(), PageRequest.of(page, size), indexResult.getTotal());
+            } else if (fullTextQuery != null) {
+                // ✅ 전문 검색 (FULLTEXT ngram 인덱스) + 필터 조합
+                Pageable searchPageable = PageRequest.of(page, size, toSearchSort(sort));
+                Page<PostSearchHit> hits;
+
+                if (categoryId != null && tagName != null && !tagName.isEmpty()) {
+                    hits = postRepository.fullTextSearchByCategoryIdAndTagName(fullTextQuery, categoryId, tagName, searchPageable);
+                } else if (categoryId != null) {
+                    hits = postRepository.fullTextSearchByCategoryId(fullTextQuery, categoryId, searchPageable);
+                } else if (tagName != null && !tagName.isEmpty()) {
+                    hits = postRepository.fullTextSearchByTagName(fullTextQuery, tagName, searchPageable);
+                } else {
+                    hits = postRepository.fullTextSearch(fullTextQuery, searchPageable);
+                }
+
+                postPage = loadSearchHits(hits);
+            } else if (categoryId != null && tagName != null && !tagName.isEmpty()) {
+                // ngram 토큰(2자)보다 짧은 검색어는 LIKE 검색으로 처리
                 // 검색 + 카테고리 + 태그
                 postPage = postRepository.searchByKeywordAndCategoryIdAndTagName(keyword, categoryId, tagName, pageable);
             } else if (categoryId != null) {
@@ -80,23 +155,15 @@ public class PostService {
             }
         }
 
-        List<PostResponse> postResponses = postPage.getContent().stream()
-                .map(post -> {
-                    if (post.getIsSecret()) {
-                        if (userId != null && userId.equals(post.getAuthor().getId())) {
-                            boolean isLiked = postLikeService.isLikedByUser(post.getId(), userId);
-                            return PostResponse.fromEntity(post, isLiked);
-                        }
-                        return PostResponse.secretPostSummary(post);
-                    }
+        List<PostSummaryResponse> summaries = buildPostSummaries(postPage.getContent());
 
-                    boolean isLiked = postLikeService.isLikedByUser(post.getId(), userId);
-                    return PostResponse.fromEntity(post, isLiked);
-                })
-                .collect(Collectors.toList());
+        if (cacheable) {
+            postListCache.put(cacheKey, cacheGeneration, summaries,
+                    (int) postPage.getTotalElements(), postPage.getTotalPages());
+        }
 
         return PostListResponse.builder()
-                .posts(postResponses)
+                .posts(applyViewer(summaries, userId))
                 .total((int) postPage.getTotalElements())
                 .page(page)
                 .size(size)
@@ -104,6 +171,170 @@ public class PostService {
                 .build();
     }
 
+    // ✅ 검색어 → BOOLEAN MODE 검색식 변환 (단어마다 +"단어", ngram 구문 일치)
+    // ngram 토큰 크기(2)보다 짧은 단어가 있으면 null 반환 → LIKE 검색으로 대체
+    private String toFullTextQuery(String keyword) {
+        StringBuilder query = new StringBuilder();
+
+        for (String term : keyword.trim().split("\\s+")) {
+            String cleaned = FULLTEXT_OPERATORS.matcher(term).replaceAll("");
+            if (cleaned.isEmpty()) {
+                continue;
+            }
+            if (cleaned.length() < NGRAM_TOKEN_SIZE) {
+                return null;
+            }
+            query.append("+\"").append(cleaned).append("\" ");
+        }
+
+        return query.length() > 0 ? query.toString().trim() : null;
+    }
+
+    // 전문 검색 정렬: 기본은 관련도순, sort 파라미터가 있으면 해당 컬럼 기준
+    private Sort toSearchSort(String sort) {
+        if (sort == null || sort.isEmpty() || sort.startsWith("relevance")) {
+            return Sort.by(Sort.Direction.DESC, "relevance").and(Sort.by(Sort.Direction.DESC, "created_at"));
+        }
+
+        String[] sortParams = sort.split(",");
+        String column = SEARCH_SORT_COLUMNS.get(sortParams[0]);
+        if (column == null) {
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sortParams[0]);
+        }
+        Sort.Direction direction = sortParams.length > 1 && sortParams[1].equalsIgnoreCase("asc")
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+        return Sort.by(direction, column);
+    }
+
+    // 인메모리 인덱스는 관련도순 / 최신순 정렬만 지원
+    private boolean isIndexSortable(String sort) {
+        return sort == null || sort.isEmpty() || sort.startsWith("relevance")
+                || sort.equals("createdAt") || sort.equalsIgnoreCase("createdAt,desc");
+    }
+
+    // 검색 결과(ID 페이지)를 검색 순서를 유지한 게시글 페이지로 변환
+    private Page<Post> loadSearchHits(Page<PostSearchHit> hits) {
+        List<Long> ids = hits.getContent().stream()
+                .map(PostSearchHit::getId)
+                .collect(Collectors.toList());
+
+        return loadPostsInOrder(ids, hits.getPageable(), hits.getTotalElements());
+    }
+
+    private Page<Post> loadPostsInOrder(List<Long> ids, Pageable pageable, long total) {
+        if (ids.isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, total);
+        }
+
+        Map<Long, Post> postsById = postRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        List<Post> ordered = ids.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(ordered, pageable, total);
+    }
+
+    // ✅ 커서 기반 목록 조회 (최신순 고정, 전체 개수 조회 없음)
+    public PostCursorResponse getPostsByCursor(String cursor, int size, Long userId, Long categoryId, String tagName, String keyword) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다.");
+        }
+        // 큰 size 요청도 한 페이지는 최대 MAX_CURSOR_SIZE개 (다음 페이지는 nextCursor로)
+        size = Math.min(size, MAX_CURSOR_SIZE);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor);
+        LocalDateTime cursorCreatedAt = decoded != null ? decoded.getCreatedAt() : null;
+        Long cursorId = decoded != null ? decoded.getId() : null;
+
+        String normalizedTag = tagName != null && !tagName.isEmpty() ? tagName : null;
+        String normalizedKeyword = keyword != null && !keyword.trim().isEmpty() ? keyword.trim() : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<Post> posts = postRepository.findByCursor(categoryId, normalizedTag, normalizedKeyword,
+                cursorCreatedAt, cursorId, PageRequest.of(0, size + 1));
+
+        boolean hasNext = posts.size() > size;
+        if (hasNext) {
+            posts = posts.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Post last = posts.get(posts.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return PostCursorResponse.builder()
+                .posts(toPostSummaries(posts, userId))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(size)
+                .build();
+    }
+
+    // ✅ 목록 응답 변환: 페이지 크기와 무관하게 태그/첨부파일/좋아요를 각각 쿼리 1번으로 조회
+    private List<PostSummaryResponse> toPostSummaries(List<Post> posts, Long userId) {
+        return applyViewer(buildPostSummaries(posts), userId);
+    }
+
+    // 사용자와 무관한 요약 (비밀글도 원문 포함, 좋아요 여부 false) → 목록 캐시에 그대로 저장 가능
+    private List<PostSummaryResponse> buildPostSummaries(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
+
+        Map<Long, List<TagResponse>> tagsByPostId = postRepository.findTagsByPostIds(postIds).stream()
+                .collect(Collectors.groupingBy(PostTagView::getPostId,
+                        Collectors.mapping(view -> TagResponse.builder()
+                                .id(view.getTagId())
+                                .name(view.getName())
+                                .useCount(view.getUseCount())
+                                .build(), Collectors.toList())));
+
+        Map<Long, Long> attachmentCounts = attachmentRepository.countByPostIds(postIds).stream()
+                .collect(Collectors.toMap(PostCountView::getPostId, PostCountView::getCount));
+
+        return posts.stream()
+                .map(post -> PostSummaryResponse.of(
+                        post,
+                        tagsByPostId.get(post.getId()),
+                        attachmentCounts.getOrDefault(post.getId(), 0L).intValue(),
+                        false))
+                .collect(Collectors.toList());
+    }
+
+    // 사용자별 정보 덧씌우기: 비밀글 가림, 좋아요 여부(쿼리 1번), 미반영 조회수
+    // 캐시된 요약은 공유 객체이므로 복사본에만 반영
+    private List<PostSummaryResponse> applyViewer(List<PostSummaryResponse> summaries, Long userId) {
+        if (summaries.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> postIds = summaries.stream().map(PostSummaryResponse::getId).collect(Collectors.toList());
+        Set<Long> likedPostIds = postLikeService.getLikedPostIds(postIds, userId);
+
+        return summaries.stream()
+                .map(summary -> {
+                    PostSummaryResponse result;
+                    if (summary.getIsSecret() && (userId == null || !userId.equals(summary.getAuthorId()))) {
+                        result = PostSummaryResponse.secretSummary(summary);
+                    } else {
+                        result = summary.toBuilder()
+                                .isLiked(likedPostIds.contains(summary.getId()))
+                                .build();
+                    }
+                    result.setViews(result.getViews() + (int) postViewCountService.getPendingViews(summary.getId()));
+                    return result;
+                })
+                .collect(Collectors.toList());
+    }
+
     public PostResponse getPost(Long id, Long userId) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
@@ -117,13 +348,13 @@ public class PostService {
         if (post.getIsSecret()) {
             if (userId == null || !userId.equals(post.getAuthor().getId())) {
                 System.out.println(">>> 비밀글 요약 반환");
-                return PostResponse.secretPostSummary(post);
+                return withPendingViews(PostResponse.secretPostSummary(post));
             }
             System.out.println(">>> 작성자 본인 - 전체 내용 반환");
         }
 
         boolean isLiked = postLikeService.isLikedByUser(id, userId);
-        return PostResponse.fromEntity(post, isLiked);
+        return withPendingViews(PostResponse.fromEntity(post, isLiked));
     }
 
     @Transactional(readOnly = true)
@@ -137,7 +368,7 @@ public class PostService {
 
         if (userId != null && userId.equals(post.getAuthor().getId())) {
             boolean isLiked = postLikeService.isLikedByUser(id, userId);
-            return PostResponse.fromEntity(post, isLiked);
+            return withPendingViews(PostResponse.fromEntity(post, isLiked));
         }
 
         if (password == null || !passwordEncoder.matches(password, post.getSecretPassword())) {
@@ -145,7 +376,16 @@ public class PostService {
         }
 
         boolean isLiked = postLikeService.isLikedByUser(id, userId);
-        return PostResponse.fromEntity(post, isLiked);
+        return withPendingViews(PostResponse.fromEntity(post, isLiked));
+    }
+
+    // 아직 DB에 반영되지 않은 조회수를 더해서 응답
+    private PostResponse withPendingViews(PostResponse response) {
+        long pending = postViewCountService.getPendingViews(response.getId());
+        if (pending > 0) {
+            response.setViews(response.getViews() + (int) pending);
+        }
+        return response;
     }
 
     @Transactional
@@ -193,13 +433,8 @@ public class PostService {
             if (request.getTags() != null && !request.getTags().isEmpty()) {
                 System.out.println(">>> 태그 처리 시작: " + request.getTags());
                 try {
-                    List<Tag> tags = tagService.getOrCreateTags(request.getTags());
-                    System.out.println(">>> 태그 조회/생성 완료: " + tags.size() + "개");
-
-                    for (Tag tag : tags) {
-                        post.addTag(tag);
-                    }
-                    System.out.println(">>> 태그 추가 완료");
+                    tagService.assignTags(post, request.getTags());
+                    System.out.println(">>> 태그 추가 완료: " + post.getTags().size() + "개");
                 } catch (Exception e) {
                     System.err.println("!!! 태그 처리 실패 !!!");
                     e.printStackTrace();
@@ -237,6 +472,9 @@ public class PostService {
                 System.out.println(">>> 파일 업로드 완료");
             }
 
+            postSearchIndex.index(savedPost);
+            postListCache.invalidateAfterCommit();
+
             System.out.println("=== PostService.createPost 완료 ===");
             return PostResponse.fromEntity(savedPost, false);
 
@@ -268,16 +506,12 @@ public class PostService {
         }
 
         if (request.getTags() != null) {
-            post.clearTags();
-
-            if (!request.getTags().isEmpty()) {
-                List<Tag> tags = tagService.getOrCreateTags(request.getTags());
-                for (Tag tag : tags) {
-                    post.addTag(tag);
-                }
-            }
+            tagService.assignTags(post, request.getTags());
         }
 
+        postSearchIndex.index(post);
+        postListCache.invalidateAfterCommit();
+
         boolean isLiked = postLikeService.isLikedByUser(postId, userId);
         return PostResponse.fromEntity(post, isLiked);
     }
@@ -291,51 +525,52 @@ public class PostService {
             throw new IllegalArgumentException("게시글 삭제 권한이 없습니다.");
         }
 
+        tagService.releaseTags(post.getTags());
         postRepository.delete(post);
+        postSearchIndex.remove(postId);
+        postViewCountService.discard(postId);
+        postListCache.invalidateAfterCommit();
     }
 
-    @Transactional
+    // ✅ 조회수는 메모리에 모았다가 주기적으로 반영 (PostViewCountService)
     public void incrementViews(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
-        post.incrementViews();
+        postViewCountService.increment(postId);
     }
 
     // ✅ 좋아요 토글
+    // 게시글 행을 먼저 배타 잠금 → 좋아요 행 삭제/INSERT IGNORE → 좋아요 수 상대 UPDATE
+    // (INSERT의 FK 공유 잠금 뒤에 UPDATE 배타 잠금을 기다리면 같은 게시글 동시 토글끼리 교착)
+    // → 엔티티 로딩, COUNT 쿼리 없이 동시 토글에도 like_count 유실 없음
     @Transactional
     public PostResponse toggleLike(Long postId, Long userId) {
-        Post post = postRepository.findById(postId)
+        PostLikeTargetView post = postRepository.lockForLike(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        // 좋아요 존재 여부 확인
-        boolean isLiked = postLikeRepository.existsByPostAndUser(post, user);
+        boolean isLiked;
+        int likeCount = post.getLikeCount() != null ? post.getLikeCount() : 0;
 
-        if (isLiked) {
+        if (postLikeRepository.deleteLike(postId, userId) > 0) {
             // 좋아요 취소
-            postLikeRepository.deleteByPostAndUser(post, user);
-            post.decrementLikeCount();  // 좋아요 수 감소
+            postRepository.decrementLikeCount(postId);
+            likeCount = Math.max(0, likeCount - 1);
+            isLiked = false;
         } else {
-            // 좋아요 추가
-            PostLike postLike = PostLike.builder()
-                    .post(post)
-                    .user(user)
-                    .build();
-            postLikeRepository.save(postLike);
-            post.incrementLikeCount();  // 좋아요 수 증가
+            // 좋아요 추가 (행 잠금 중이라 같은 사용자 동시 요청도 직렬화 → 무시되면 없는 사용자)
+            if (postLikeRepository.insertIgnore(postId, userId) == 0) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+            }
+            postRepository.incrementLikeCount(postId);
+            likeCount++;
+            isLiked = true;
         }
 
-        // 최신 좋아요 수
-        long likeCount = postLikeRepository.countByPost(post);
-
+        // 잠금을 잡은 채 읽은 값 기준이므로 그대로 최신 좋아요 수
         return PostResponse.builder()
-                .id(post.getId())
+                .id(postId)
                 .title(post.getTitle())
                 .content(post.getContent())
-                .isLiked(!isLiked)  // 토글 후 상태
-                .likeCount((int) likeCount)
+                .isLiked(isLiked)
+                .likeCount(likeCount)
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,131 @@
+package com.example.board.service;
+
+import com.example.board.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회수 write-behind 카운터
+ *
+ * - 조회 요청은 메모리 카운터만 증가 (게시글별 첫 조회만 존재 확인)
+ * - 주기적으로 증가분을 모아 UPDATE posts SET views = views + ? 로 반영
+ *   (같은 증가분을 가진 게시글은 IN 절 하나로 묶어서 처리)
+ * - 증가/비우기/제거는 모두 ConcurrentHashMap의 키 단위 원자 연산 → 반영 도중 들어온 조회도 유실 없음
+ * - 반영 시 증가분이 있던 카운터는 0으로 두고, 한 주기 동안 조회가 없던 카운터는 제거
+ *   (카운터 수는 최근 조회된 게시글 수 수준, 그래도 max-pending-posts를 넘으면 DB에 바로 반영)
+ * - 삭제된 게시글 카운터는 삭제 시/반영 시 정리
+ * - 조회 응답에는 아직 반영되지 않은 증가분을 더해서 보여줌
+ * - 종료 시 남은 증가분 반영
+ * - 반영 후 게시글 목록 캐시 무효화
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewCountService {
+
+    private final PostRepository postRepository;
+    private final PostListCache postListCache;
+
+    @Value("${post.views.max-pending-posts:100000}")
+    private int maxPendingPosts;
+
+    // postId → 아직 반영되지 않은 조회수 (0이면 최근 반영 후 조회 없음)
+    private final ConcurrentHashMap<Long, Long> pendingViews = new ConcurrentHashMap<>();
+
+    public void increment(Long postId) {
+        if (!pendingViews.containsKey(postId)) {
+            // 처음 보는 ID만 존재 확인 → 없는 ID로 카운터가 늘어나지 않게
+            if (!postRepository.existsById(postId)) {
+                throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+            }
+            if (pendingViews.size() >= maxPendingPosts) {
+                postRepository.incrementViews(List.of(postId), 1);
+                return;
+            }
+        }
+        pendingViews.merge(postId, 1L, Long::sum);
+    }
+
+    // 삭제된 게시글 카운터 제거
+    public void discard(Long postId) {
+        pendingViews.remove(postId);
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long getPendingViews(Long postId) {
+        return pendingViews.getOrDefault(postId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${post.views.flush-interval:5000}")
+    public void flush() {
+        if (pendingViews.isEmpty()) {
+            return;
+        }
+
+        // 증가분별로 게시글 ID 묶기
+        // 키 단위 원자 연산으로 값을 꺼내고 0으로 비움, 이미 0이던 (한 주기 동안 조회 없던) 카운터는 제거
+        Map<Long, List<Long>> postIdsByDelta = new HashMap<>();
+        for (Long postId : pendingViews.keySet()) {
+            long[] drained = new long[1];
+            pendingViews.computeIfPresent(postId, (id, views) -> {
+                drained[0] = views;
+                return views == 0 ? null : 0L;
+            });
+            if (drained[0] > 0) {
+                postIdsByDelta.computeIfAbsent(drained[0], d -> new ArrayList<>()).add(postId);
+            }
+        }
+
+        int updated = 0;
+        for (Map.Entry<Long, List<Long>> entry : postIdsByDelta.entrySet()) {
+            List<Long> postIds = entry.getValue();
+            try {
+                int rows = postRepository.incrementViews(postIds, entry.getKey().intValue());
+                updated += rows;
+                if (rows < postIds.size()) {
+                    removeDeletedPosts(postIds);
+                }
+            } catch (Exception e) {
+                // 실패한 증가분은 다음 주기에 다시 시도
+                log.error("조회수 반영 실패 - delta: {}, posts: {}", entry.getKey(), postIds.size(), e);
+                for (Long postId : postIds) {
+                    pendingViews.merge(postId, entry.getKey(), Long::sum);
+                }
+            }
+        }
+
+        if (updated > 0) {
+            // 캐시된 목록의 조회수는 반영 전 값이므로 무효화
+            postListCache.invalidateAll();
+            log.debug("조회수 반영 완료 - {}건", updated);
+        }
+    }
+
+    // UPDATE 대상이 없던 (삭제된) 게시글 카운터 제거
+    private void removeDeletedPosts(List<Long> postIds) {
+        Set<Long> existing = new HashSet<>(postRepository.findExistingIds(postIds));
+        for (Long postId : postIds) {
+            if (!existing.contains(postId)) {
+                pendingViews.remove(postId);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 조회수 반영 - 대기 중인 게시글: {}", pendingViews.size());
+        flush();
+    }
+}
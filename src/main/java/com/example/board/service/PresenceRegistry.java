@@ -0,0 +1,187 @@
+package com.example.board.service;
+
+import com.example.board.dto.collab.PresenceResponse;
+import com.example.board.dto.websocket.CollaborativeEditMessage;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 공동 편집 접속자 목록 (메모리, DB 기록 없음)
+ *
+ * - 채널(게시글 편집 / 공동 편집 방)별 STOMP 세션 → 접속자
+ * - JOIN/LEAVE 프레임으로 추가/제거, 세션이 끊기면 (SessionDisconnectEvent) 그 세션의 모든 채널에서 제거
+ * - 하트비트가 끊긴 세션은 브로커가 닫음 (WebSocketConfig) → 같은 경로로 제거
+ * - 끊김 처리 뒤에 도착한 JOIN이 남긴 접속자는 주기적으로 정리 (연결 중인 세션 목록과 비교)
+ * - 끊김으로 제거된 접속자는 해당 채널에 LEAVE 메시지를 대신 보냄
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PresenceRegistry {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 채널 → (sessionId → 접속자)
+    private final Map<Channel, Map<String, Presence>> channels = new ConcurrentHashMap<>();
+
+    // sessionId → 참여 중인 채널 (끊김 처리용)
+    private final Map<String, Set<Channel>> sessionChannels = new ConcurrentHashMap<>();
+
+    // 연결 중인 STOMP 세션 (CONNECT ~ DISCONNECT)
+    private final Set<String> connectedSessions = ConcurrentHashMap.newKeySet();
+
+    public static Channel post(Long postId) {
+        return new Channel("post", postId);
+    }
+
+    public static Channel room(Long roomId) {
+        return new Channel("collab-room", roomId);
+    }
+
+    public void join(Channel channel, String sessionId, Long userId, String username) {
+        if (sessionId == null || userId == null || !connectedSessions.contains(sessionId)) {
+            return;
+        }
+
+        Presence presence = new Presence(userId, username, LocalDateTime.now());
+        channels.compute(channel, (key, sessions) -> {
+            Map<String, Presence> joined = sessions != null ? sessions : new ConcurrentHashMap<>();
+            joined.putIfAbsent(sessionId, presence);
+            return joined;
+        });
+        sessionChannels.computeIfAbsent(sessionId, key -> ConcurrentHashMap.newKeySet()).add(channel);
+    }
+
+    public void leave(Channel channel, String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        remove(channel, sessionId);
+        sessionChannels.computeIfPresent(sessionId, (key, joined) -> {
+            joined.remove(channel);
+            return joined.isEmpty() ? null : joined;
+        });
+    }
+
+    /**
+     * 채널 접속자 (같은 사용자가 여러 탭이면 한 번만, 먼저 들어온 순)
+     */
+    public List<PresenceResponse> getPresent(Channel channel) {
+        Map<String, Presence> sessions = channels.get(channel);
+        if (sessions == null) {
+            return List.of();
+        }
+
+        Map<Long, Presence> byUser = new HashMap<>();
+        for (Presence presence : sessions.values()) {
+            byUser.merge(presence.userId, presence,
+                    (a, b) -> a.joinedAt.isBefore(b.joinedAt) ? a : b);
+        }
+        return byUser.values().stream()
+                .sorted(Comparator.comparing((Presence presence) -> presence.joinedAt))
+                .map(presence -> new PresenceResponse(presence.userId, presence.username, presence.joinedAt))
+                .collect(Collectors.toList());
+    }
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            connectedSessions.add(sessionId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        connectedSessions.remove(event.getSessionId());
+        removeSession(event.getSessionId());
+    }
+
+    /**
+     * 이미 끊긴 세션의 접속자 정리
+     * join의 연결 확인과 끊김 처리 사이에 들어온 JOIN은 끊김 처리 이후에 남을 수 있음
+     */
+    @Scheduled(fixedDelayString = "${collab.presence.sweep-interval:60000}")
+    public void sweepDisconnected() {
+        int removed = 0;
+        for (String sessionId : sessionChannels.keySet()) {
+            if (!connectedSessions.contains(sessionId)) {
+                removeSession(sessionId);
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.debug("끊긴 공동 편집 세션 정리 - {}개", removed);
+        }
+    }
+
+    private void removeSession(String sessionId) {
+        Set<Channel> joined = sessionChannels.remove(sessionId);
+        if (joined == null) {
+            return;
+        }
+
+        for (Channel channel : joined) {
+            Presence removed = remove(channel, sessionId);
+            if (removed != null && !isStillPresent(channel, removed.userId)) {
+                messagingTemplate.convertAndSend(channel.destination(), CollaborativeEditMessage.builder()
+                        .postId(channel.id)
+                        .userId(removed.userId)
+                        .username(removed.username)
+                        .type(CollaborativeEditMessage.MessageType.LEAVE)
+                        .timestamp(System.currentTimeMillis())
+                        .build());
+            }
+        }
+        log.debug("공동 편집 세션 종료 - sessionId: {}, channels: {}", sessionId, joined.size());
+    }
+
+    private Presence remove(Channel channel, String sessionId) {
+        Presence[] removed = new Presence[1];
+        channels.computeIfPresent(channel, (key, sessions) -> {
+            removed[0] = sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+        return removed[0];
+    }
+
+    // 같은 사용자가 다른 탭으로 아직 접속 중인지
+    private boolean isStillPresent(Channel channel, Long userId) {
+        Map<String, Presence> sessions = channels.get(channel);
+        return sessions != null && sessions.values().stream().anyMatch(presence -> presence.userId.equals(userId));
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    public static class Channel {
+        private final String type;  // post, collab-room
+        private final Long id;
+
+        String destination() {
+            return "/topic/" + type + "/" + id;
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Presence {
+        private final Long userId;
+        private final String username;
+        private final LocalDateTime joinedAt;
+    }
+}
@@ -0,0 +1,477 @@
+package com.example.board.service;
+
+import java.io.ByteArrayOutputStream;
+import java.util.*;
+
+/**
+ * 시퀀스 CRDT 문서 (RGA)
+ *
+ * - 글자 하나가 항목 하나: id = (client, seq), 왼쪽 기준 항목(origin), Lamport 시각
+ * - 삽입은 origin 바로 뒤에서 시작해, 시각이 더 큰 항목들을 건너뛴 자리에 들어감 → 적용 순서와 무관하게 같은 결과
+ * - 삭제는 표시만 (tombstone), 항목은 남겨 둠 → 나중에 도착한 삽입도 자리를 찾을 수 있음
+ * - 클라이언트마다 seq는 0부터 연속 → 상태 벡터(client → 다음 seq)로 빠진 업데이트만 계산
+ * - 업데이트/상태 벡터는 varint 기반 바이너리로 인코딩
+ *
+ * 잠금은 호출 측 책임 (CollabCrdtService가 문서 단위로 동기화)
+ * 글자 단위는 Java String 기준 (UTF-16 코드 유닛) → 브라우저 문자열과 같음
+ */
+public final class RgaDocument {
+
+    public static final long SERVER_CLIENT = 0;
+
+    private static final int INSERT = 0;
+    private static final int DELETE = 1;
+
+    private final Item head = new Item(-1, -1, 0, '\0');
+    private final Map<Long, Item> items = new HashMap<>();
+
+    // client → 받은 연산 (seq 순서)
+    private final Map<Long, List<Op>> log = new HashMap<>();
+    // client → 다음 seq
+    private final Map<Long, Long> stateVector = new HashMap<>();
+
+    private long maxLamport;
+    private long nextClientId = SERVER_CLIENT + 1;
+    private String text;  // 읽기용 캐시 (변경 시 null)
+
+    public RgaDocument(String initialText) {
+        if (initialText != null && !initialText.isEmpty()) {
+            integrate(new Op(SERVER_CLIENT, 0, INSERT, 1, null, initialText, 0, 0, 0));
+        }
+    }
+
+    public long assignClientId() {
+        return nextClientId++;
+    }
+
+    public boolean isKnownClient(long clientId) {
+        return clientId > SERVER_CLIENT && clientId < nextClientId;
+    }
+
+    public String text() {
+        if (text == null) {
+            StringBuilder builder = new StringBuilder();
+            for (Item item = head.next; item != null; item = item.next) {
+                if (!item.deleted) {
+                    builder.append(item.value);
+                }
+            }
+            text = builder.toString();
+        }
+        return text;
+    }
+
+    /**
+     * 클라이언트 업데이트 적용 (해당 클라이언트 연산만 허용)
+     *
+     * @return 새로 적용된 연산 (이미 받은 연산은 제외) → 다른 구독자에게 전달
+     * @throws IllegalArgumentException 형식 오류, seq 누락, 없는 항목 참조 → 그 앞까지만 적용된 상태
+     */
+    public List<Op> applyUpdate(byte[] update, long clientId) {
+        List<Op> ops = decodeUpdate(update);
+        List<Op> applied = new ArrayList<>();
+        for (Op op : ops) {
+            if (op.client != clientId) {
+                throw new IllegalArgumentException("다른 클라이언트의 연산은 보낼 수 없습니다");
+            }
+            Op accepted = integrate(op);
+            if (accepted != null) {
+                applied.add(accepted);
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * 서버가 전체 내용을 교체 (REST 저장, 이전 CONTENT_CHANGE 메시지)
+     * 현재 텍스트와 공통 앞/뒤를 뺀 가운데 구간만 삭제 + 삽입
+     */
+    public List<Op> replaceText(String after) {
+        String before = text();
+        int prefix = 0;
+        int max = Math.min(before.length(), after.length());
+        while (prefix < max && before.charAt(prefix) == after.charAt(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < max - prefix
+                && before.charAt(before.length() - 1 - suffix) == after.charAt(after.length() - 1 - suffix)) {
+            suffix++;
+        }
+        int deleteEnd = before.length() - suffix;
+        String inserted = after.substring(prefix, after.length() - suffix);
+
+        // 보이는 위치 → 항목
+        Item origin = head;
+        List<Item> deleted = new ArrayList<>();
+        int index = 0;
+        for (Item item = head.next; item != null && index < deleteEnd; item = item.next) {
+            if (item.deleted) {
+                continue;
+            }
+            if (index < prefix) {
+                origin = item;
+            } else {
+                deleted.add(item);
+            }
+            index++;
+        }
+
+        List<Op> applied = new ArrayList<>();
+        // 삭제: 같은 클라이언트의 연속 seq끼리 묶어서 연산 하나
+        int i = 0;
+        while (i < deleted.size()) {
+            Item first = deleted.get(i);
+            int length = 1;
+            while (i + length < deleted.size()
+                    && deleted.get(i + length).client == first.client
+                    && deleted.get(i + length).seq == first.seq + length) {
+                length++;
+            }
+            applied.add(integrate(new Op(SERVER_CLIENT, nextSeq(SERVER_CLIENT), DELETE, 0, null, null,
+                    first.client, first.seq, length)));
+            i += length;
+        }
+        if (!inserted.isEmpty()) {
+            long[] originId = origin == head ? null : new long[]{origin.client, origin.seq};
+            applied.add(integrate(new Op(SERVER_CLIENT, nextSeq(SERVER_CLIENT), INSERT, maxLamport + 1,
+                    originId, inserted, 0, 0, 0)));
+        }
+        return applied;
+    }
+
+    /**
+     * 상대 상태 벡터 기준으로 빠진 연산 (null이면 전체)
+     */
+    public List<Op> missingSince(Map<Long, Long> remote) {
+        List<Op> missing = new ArrayList<>();
+        for (Map.Entry<Long, List<Op>> entry : log.entrySet()) {
+            long known = remote != null ? remote.getOrDefault(entry.getKey(), 0L) : 0L;
+            List<Op> ops = entry.getValue();
+
+            // seq 끝이 known보다 큰 첫 연산 (이진 탐색)
+            int low = 0;
+            int high = ops.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ops.get(mid).endSeq() <= known) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            for (int i = low; i < ops.size(); i++) {
+                Op op = ops.get(i);
+                missing.add(op.seq < known ? op.sliceFrom((int) (known - op.seq)) : op);
+            }
+        }
+        return missing;
+    }
+
+    public Map<Long, Long> stateVector() {
+        return Collections.unmodifiableMap(stateVector);
+    }
+
+    // ===== 적용 =====
+
+    /**
+     * @return 새로 적용된 부분 (전부 이미 받은 연산이면 null)
+     */
+    private Op integrate(Op op) {
+        long next = nextSeq(op.client);
+        if (op.seq > next) {
+            throw new IllegalArgumentException("빠진 연산이 있습니다: client " + op.client + ", seq " + next);
+        }
+        if (op.endSeq() <= next) {
+            return null;
+        }
+        if (op.seq < next) {
+            op = op.sliceFrom((int) (next - op.seq));
+        }
+
+        if (op.kind == INSERT) {
+            Item origin = op.origin == null ? head : items.get(key(op.origin[0], op.origin[1]));
+            if (origin == null) {
+                throw new IllegalArgumentException("기준 항목을 찾을 수 없습니다");
+            }
+            if (op.lamport <= origin.lamport) {
+                throw new IllegalArgumentException("Lamport 시각이 기준 항목보다 작습니다");
+            }
+
+            Item left = origin;
+            for (int i = 0; i < op.text.length(); i++) {
+                Item item = new Item(op.client, op.seq + i, op.lamport + i, op.text.charAt(i));
+                // origin 뒤에서 시각이 더 큰 항목(나중에 같은 자리에 들어온 항목과 그 뒤에 붙은 항목)은 건너뜀
+                Item right = left.next;
+                while (right != null && right.isNewerThan(item)) {
+                    left = right;
+                    right = right.next;
+                }
+                item.next = right;
+                left.next = item;
+                items.put(key(item.client, item.seq), item);
+                left = item;
+            }
+            maxLamport = Math.max(maxLamport, op.lamport + op.text.length() - 1);
+        } else {
+            for (int i = 0; i < op.targetLength; i++) {
+                if (!items.containsKey(key(op.targetClient, op.targetSeq + i))) {
+                    throw new IllegalArgumentException("삭제할 항목을 찾을 수 없습니다");
+                }
+            }
+            for (int i = 0; i < op.targetLength; i++) {
+                items.get(key(op.targetClient, op.targetSeq + i)).deleted = true;
+            }
+        }
+
+        log.computeIfAbsent(op.client, key -> new ArrayList<>()).add(op);
+        stateVector.put(op.client, op.endSeq());
+        nextClientId = Math.max(nextClientId, op.client + 1);
+        text = null;
+        return op;
+    }
+
+    private long nextSeq(long client) {
+        return stateVector.getOrDefault(client, 0L);
+    }
+
+    private static long key(long client, long seq) {
+        return (client << 32) | seq;
+    }
+
+    // ===== 인코딩 =====
+    // 업데이트: [클라이언트 수] { client, 시작 seq, 연산 수, { 종류, ... } }
+    //   삽입: lamport, origin(0 = 문서 시작, 아니면 client + 1, seq), 길이, 글자들
+    //   삭제: 대상 client, 대상 시작 seq, 길이
+    // 상태 벡터: [개수] { client, 다음 seq }
+
+    public static byte[] encodeUpdate(List<Op> ops) {
+        Map<Long, List<Op>> byClient = new LinkedHashMap<>();
+        for (Op op : ops) {
+            byClient.computeIfAbsent(op.client, key -> new ArrayList<>()).add(op);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarint(out, byClient.size());
+        for (Map.Entry<Long, List<Op>> entry : byClient.entrySet()) {
+            List<Op> clientOps = entry.getValue();
+            writeVarint(out, entry.getKey());
+            writeVarint(out, clientOps.get(0).seq);
+            writeVarint(out, clientOps.size());
+            for (Op op : clientOps) {
+                writeVarint(out, op.kind);
+                if (op.kind == INSERT) {
+                    writeVarint(out, op.lamport);
+                    if (op.origin == null) {
+                        writeVarint(out, 0);
+                    } else {
+                        writeVarint(out, op.origin[0] + 1);
+                        writeVarint(out, op.origin[1]);
+                    }
+                    writeVarint(out, op.text.length());
+                    for (int i = 0; i < op.text.length(); i++) {
+                        writeVarint(out, op.text.charAt(i));
+                    }
+                } else {
+                    writeVarint(out, op.targetClient);
+                    writeVarint(out, op.targetSeq);
+                    writeVarint(out, op.targetLength);
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    public static List<Op> decodeUpdate(byte[] update) {
+        if (update == null) {
+            throw new IllegalArgumentException("업데이트는 필수입니다");
+        }
+        Reader in = new Reader(update);
+        List<Op> ops = new ArrayList<>();
+        long clientCount = in.varint();
+        for (long c = 0; c < clientCount; c++) {
+            long client = in.varint();
+            long seq = in.varint();
+            long count = in.varint();
+            for (long n = 0; n < count; n++) {
+                int kind = (int) in.varint();
+                Op op;
+                if (kind == INSERT) {
+                    long lamport = in.varint();
+                    long originClient = in.varint();
+                    long[] origin = originClient == 0 ? null : new long[]{originClient - 1, in.varint()};
+                    int length = in.length();
+                    // 글자마다 최소 1바이트
+                    if (length == 0 || length > in.remaining()) {
+                        throw new IllegalArgumentException("삽입 길이가 잘못되었습니다");
+                    }
+                    StringBuilder text = new StringBuilder(length);
+                    for (int i = 0; i < length; i++) {
+                        long value = in.varint();
+                        if (value > Character.MAX_VALUE) {
+                            throw new IllegalArgumentException("잘못된 글자입니다");
+                        }
+                        text.append((char) value);
+                    }
+                    op = new Op(client, seq, INSERT, lamport, origin, text.toString(), 0, 0, 0);
+                } else if (kind == DELETE) {
+                    long targetClient = in.varint();
+                    long targetSeq = in.varint();
+                    int length = in.length();
+                    if (length == 0) {
+                        throw new IllegalArgumentException("삭제 길이가 잘못되었습니다");
+                    }
+                    op = new Op(client, seq, DELETE, 0, null, null, targetClient, targetSeq, length);
+                } else {
+                    throw new IllegalArgumentException("알 수 없는 연산 종류입니다: " + kind);
+                }
+                ops.add(op);
+                seq = op.endSeq();
+            }
+        }
+        if (!in.isEnd()) {
+            throw new IllegalArgumentException("업데이트 끝에 남은 데이터가 있습니다");
+        }
+        return ops;
+    }
+
+    public static byte[] encodeStateVector(Map<Long, Long> vector) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarint(out, vector.size());
+        for (Map.Entry<Long, Long> entry : vector.entrySet()) {
+            writeVarint(out, entry.getKey());
+            writeVarint(out, entry.getValue());
+        }
+        return out.toByteArray();
+    }
+
+    public static Map<Long, Long> decodeStateVector(byte[] encoded) {
+        Reader in = new Reader(encoded);
+        Map<Long, Long> vector = new HashMap<>();
+        long count = in.varint();
+        for (long i = 0; i < count; i++) {
+            vector.put(in.varint(), in.varint());
+        }
+        if (!in.isEnd()) {
+            throw new IllegalArgumentException("상태 벡터 끝에 남은 데이터가 있습니다");
+        }
+        return vector;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        // seq, client 등은 2^32 미만 (항목 키 계산), lamport도 같은 범위로 제한
+        long varint() {
+            long value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                if (position >= data.length) {
+                    throw new IllegalArgumentException("업데이트가 잘렸습니다");
+                }
+                int b = data[position++] & 0xFF;
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    if (value > 0xFFFFFFFFL) {
+                        break;
+                    }
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("값이 너무 큽니다");
+        }
+
+        int length() {
+            long value = varint();
+            if (value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("길이가 너무 큽니다");
+            }
+            return (int) value;
+        }
+
+        int remaining() {
+            return data.length - position;
+        }
+
+        boolean isEnd() {
+            return position == data.length;
+        }
+    }
+
+    // ===== 모델 =====
+
+    /**
+     * 연산 하나 (삽입은 연속 글자 묶음, 글자마다 seq 하나 / 삭제는 seq 하나)
+     */
+    public static final class Op {
+        private final long client;
+        private final long seq;
+        private final int kind;
+        private final long lamport;        // 삽입 첫 글자 (다음 글자는 +1씩)
+        private final long[] origin;       // 삽입 첫 글자의 왼쪽 기준 항목 (null = 문서 시작)
+        private final String text;
+        private final long targetClient;   // 삭제 대상 (같은 클라이언트의 연속 seq 범위)
+        private final long targetSeq;
+        private final int targetLength;
+
+        private Op(long client, long seq, int kind, long lamport, long[] origin, String text,
+                   long targetClient, long targetSeq, int targetLength) {
+            this.client = client;
+            this.seq = seq;
+            this.kind = kind;
+            this.lamport = lamport;
+            this.origin = origin;
+            this.text = text;
+            this.targetClient = targetClient;
+            this.targetSeq = targetSeq;
+            this.targetLength = targetLength;
+        }
+
+        public long getClient() {
+            return client;
+        }
+
+        long endSeq() {
+            return kind == INSERT ? seq + text.length() : seq + 1;
+        }
+
+        // 삽입 묶음의 offset번째 글자부터 (앞 글자가 새 origin)
+        Op sliceFrom(int offset) {
+            return new Op(client, seq + offset, INSERT, lamport + offset,
+                    new long[]{client, seq + offset - 1}, text.substring(offset), 0, 0, 0);
+        }
+    }
+
+    private static final class Item {
+        private final long client;
+        private final long seq;
+        private final long lamport;
+        private final char value;
+        private boolean deleted;
+        private Item next;
+
+        Item(long client, long seq, long lamport, char value) {
+            this.client = client;
+            this.seq = seq;
+            this.lamport = lamport;
+            this.value = value;
+        }
+
+        // 같은 자리 경쟁 시 시각이 크면 (같으면 client가 크면) 앞쪽
+        boolean isNewerThan(Item other) {
+            return lamport != other.lamport ? lamport > other.lamport : client > other.client;
+        }
+    }
+}
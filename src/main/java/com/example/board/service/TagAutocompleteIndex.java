@@ -0,0 +1,282 @@
+package com.example.board.service;
+
+import com.example.board.dto.response.TagResponse;
+import com.example.board.entity.Tag;
+import com.example.board.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 태그 자동완성 인덱스 (접두어 검색, 사용 횟수 순)
+ *
+ * - 태그 이름을 정렬한 배열에서 이진 탐색으로 접두어 범위 [from, to) 계산
+ * - 범위 안 상위 N개는 사용 횟수 구간 최댓값 세그먼트 트리 + 우선순위 큐로 추출 (범위 크기와 무관)
+ * - 스냅샷은 불변 객체로 통째로 교체 (검색은 잠금 없음)
+ * - 사용 횟수가 바뀐 커밋이 있을 때만 주기적으로 DB에서 다시 로딩 (변경이 없으면 DB 조회 없음)
+ * - 새 태그는 커밋 후 바로 검색되도록 별도 보관, 다시 로딩하면 로딩 시작 전에 들어온 항목은 제거
+ *   (스냅샷에 포함되었거나, 그 사이 정리 작업으로 삭제된 태그)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TagAutocompleteIndex {
+
+    private final TagRepository tagRepository;
+
+    private volatile Snapshot snapshot;
+
+    // 마지막 로딩 이후 생성된 태그 (다음 로딩 때 제거)
+    private final Map<String, RecentTag> recentTags = new ConcurrentHashMap<>();
+
+    // 마지막 로딩 이후 사용 횟수/태그 목록이 바뀐 커밋이 있었는지
+    private final AtomicBoolean changed = new AtomicBoolean();
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        long loadStartNanos = System.nanoTime();
+        changed.set(false);  // 로딩 중에 커밋된 변경은 다음 주기에 다시 반영
+
+        List<Tag> tags = tagRepository.findAll();
+        Snapshot loaded = new Snapshot(tags);
+
+        snapshot = loaded;
+        recentTags.values().removeIf(recent ->
+                recent.addedAt - loadStartNanos < 0 || loaded.indexOf(recent.tag.getName()) >= 0);
+
+        log.info("태그 자동완성 인덱스 로딩 완료 - {}개, {}ms", tags.size(), System.currentTimeMillis() - start);
+    }
+
+    @Scheduled(fixedDelayString = "${tag.autocomplete.refresh-interval:60000}",
+            initialDelayString = "${tag.autocomplete.refresh-interval:60000}")
+    public void refresh() {
+        if (!changed.get()) {
+            return;
+        }
+        try {
+            load();
+        } catch (Exception e) {
+            changed.set(true);  // 다음 주기에 다시 시도
+            log.error("태그 자동완성 인덱스 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 새 태그 등록 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void add(Tag tag) {
+        TagResponse response = TagResponse.fromEntity(tag);
+        afterCommit(() -> recentTags.put(response.getName(), new RecentTag(response, System.nanoTime())));
+    }
+
+    /**
+     * 사용 횟수 변경/태그 삭제 알림 (트랜잭션 안이면 커밋 후) → 다음 주기에 다시 로딩
+     */
+    public void markChanged() {
+        afterCommit(() -> changed.set(true));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 태그를 사용 횟수 순으로 최대 limit개
+     *
+     * @return 인덱스 로딩 전이면 null → 호출 측에서 DB 검색으로 대체
+     */
+    public List<TagResponse> search(String prefix, int limit) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+
+        String normalized = prefix == null ? "" : prefix.trim().toLowerCase();
+        List<TagResponse> results = current.topByPrefix(normalized, limit);
+
+        // 최근 생성된 태그 합치기 (보통 몇 개 수준)
+        if (!recentTags.isEmpty()) {
+            boolean merged = false;
+            for (RecentTag entry : recentTags.values()) {
+                TagResponse recent = entry.tag;
+                if (recent.getName().startsWith(normalized) && current.indexOf(recent.getName()) < 0) {
+                    results.add(recent);
+                    merged = true;
+                }
+            }
+            if (merged) {
+                results.sort(RANKING);
+                if (results.size() > limit) {
+                    results = new ArrayList<>(results.subList(0, limit));
+                }
+            }
+        }
+        return results;
+    }
+
+    private static final Comparator<TagResponse> RANKING = Comparator
+            .comparing(TagResponse::getUseCount, Comparator.reverseOrder())
+            .thenComparing(TagResponse::getName);
+
+    private static final class RecentTag {
+        private final TagResponse tag;
+        private final long addedAt;  // System.nanoTime()
+
+        RecentTag(TagResponse tag, long addedAt) {
+            this.tag = tag;
+            this.addedAt = addedAt;
+        }
+    }
+
+    /**
+     * 불변 스냅샷: 이름순 정렬 배열 + 사용 횟수 argmax 세그먼트 트리
+     */
+    private static final class Snapshot {
+        private final String[] names;
+        private final long[] ids;
+        private final int[] useCounts;
+        private final int leafOffset;
+        private final int[] tree;  // 구간에서 사용 횟수가 가장 큰 위치 (없으면 -1)
+
+        Snapshot(List<Tag> tags) {
+            Tag[] sorted = tags.stream()
+                    .filter(tag -> tag.getName() != null)
+                    .sorted(Comparator.comparing(Tag::getName))
+                    .toArray(Tag[]::new);
+
+            int n = sorted.length;
+            names = new String[n];
+            ids = new long[n];
+            useCounts = new int[n];
+            for (int i = 0; i < n; i++) {
+                names[i] = sorted[i].getName();
+                ids[i] = sorted[i].getId();
+                useCounts[i] = sorted[i].getUseCount() != null ? sorted[i].getUseCount() : 0;
+            }
+
+            int offset = 1;
+            while (offset < n) {
+                offset <<= 1;
+            }
+            leafOffset = offset;
+            tree = new int[offset * 2];
+            Arrays.fill(tree, -1);
+            for (int i = 0; i < n; i++) {
+                tree[offset + i] = i;
+            }
+            for (int node = offset - 1; node >= 1; node--) {
+                tree[node] = better(tree[node * 2], tree[node * 2 + 1]);
+            }
+        }
+
+        int indexOf(String name) {
+            int index = Arrays.binarySearch(names, name);
+            return index >= 0 ? index : -1;
+        }
+
+        List<TagResponse> topByPrefix(String prefix, int limit) {
+            int from = lowerBound(prefix);
+            int to = prefix.isEmpty() ? names.length : lowerBound(prefix + Character.MAX_VALUE);
+
+            List<TagResponse> results = new ArrayList<>();
+            if (from >= to || limit <= 0) {
+                return results;
+            }
+
+            // 구간 [from, to) 최댓값을 꺼내고, 그 양쪽 구간을 다시 큐에 넣는 방식 → O(limit · log n)
+            PriorityQueue<int[]> queue = new PriorityQueue<>((a, b) -> compareRank(a[0], b[0]));
+            queue.add(new int[]{maxIn(from, to), from, to});
+
+            while (!queue.isEmpty() && results.size() < limit) {
+                int[] range = queue.poll();
+                int best = range[0];
+                results.add(TagResponse.builder()
+                        .id(ids[best])
+                        .name(names[best])
+                        .useCount(useCounts[best])
+                        .build());
+
+                if (range[1] < best) {
+                    queue.add(new int[]{maxIn(range[1], best), range[1], best});
+                }
+                if (best + 1 < range[2]) {
+                    queue.add(new int[]{maxIn(best + 1, range[2]), best + 1, range[2]});
+                }
+            }
+            return results;
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = names.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (names[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // [from, to) 구간에서 순위가 가장 높은 위치
+        private int maxIn(int from, int to) {
+            int best = -1;
+            int left = from + leafOffset;
+            int right = to + leafOffset;
+            while (left < right) {
+                if ((left & 1) == 1) {
+                    best = better(best, tree[left++]);
+                }
+                if ((right & 1) == 1) {
+                    best = better(best, tree[--right]);
+                }
+                left >>= 1;
+                right >>= 1;
+            }
+            return best;
+        }
+
+        private int better(int a, int b) {
+            if (a < 0) {
+                return b;
+            }
+            if (b < 0) {
+                return a;
+            }
+            return compareRank(a, b) <= 0 ? a : b;
+        }
+
+        // 사용 횟수 많은 순, 같으면 이름순 (배열이 이름순이므로 위치가 작은 쪽)
+        private int compareRank(int a, int b) {
+            if (useCounts[a] != useCounts[b]) {
+                return Integer.compare(useCounts[b], useCounts[a]);
+            }
+            return Integer.compare(a, b);
+        }
+    }
+}
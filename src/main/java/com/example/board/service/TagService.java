@@ -1,21 +1,54 @@
 package com.example.board.service;
 
+import com.example.board.dto.response.TagCleanupResponse;
 import com.example.board.dto.response.TagResponse;
+import com.example.board.entity.Post;
 import com.example.board.entity.Tag;
 import com.example.board.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional(readOnly = true)
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TagAutocompleteIndex tagAutocompleteIndex;
+
+    private static final int MAX_TAG_NAME_LENGTH = 50;
+    private static final int TAG_ID_CACHE_LIMIT = 10_000;
+    private static final int MAX_SEARCH_LIMIT = 50;
+
+    // 태그 이름 → id 캐시 (롤백/삭제로 없어진 id는 조회 시 걸러지고 이름으로 다시 찾음)
+    private final Map<String, Long> tagIdCache = new ConcurrentHashMap<>();
+
+    @Value("${tag.cleanup.chunk-size:1000}")
+    private int cleanupChunkSize;
+
+    private volatile TagCleanupResponse lastCleanup;
 
     // 모든 태그 조회
     public List<TagResponse> getAllTags() {
@@ -31,43 +64,243 @@ public class TagService {
                 .collect(Collectors.toList());
     }
 
-    // 태그 검색
-    public List<TagResponse> searchTags(String keyword) {
+    // 태그 검색 (자동완성: 접두어 일치, 사용 횟수 순)
+    // ✅ 인메모리 인덱스로 처리, 로딩 전에만 DB 검색
+    public List<TagResponse> searchTags(String keyword, int limit) {
+        int safeLimit = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+
+        List<TagResponse> results = tagAutocompleteIndex.search(keyword, safeLimit);
+        if (results != null) {
+            return results;
+        }
+
         return tagRepository.findByNameContainingIgnoreCase(keyword).stream()
                 .map(TagResponse::fromEntity)
+                .limit(safeLimit)
                 .collect(Collectors.toList());
     }
 
     // 태그 이름으로 조회 또는 생성
     @Transactional
     public Tag getOrCreateTag(String tagName) {
-        String normalizedName = tagName.trim().toLowerCase();
-
-        return tagRepository.findByName(normalizedName)
-                .orElseGet(() -> {
-                    Tag newTag = Tag.builder()
-                            .name(normalizedName)
-                            .useCount(0)
-                            .build();
-                    return tagRepository.save(newTag);
-                });
+        List<Tag> tags = getOrCreateTags(List.of(tagName));
+        if (tags.isEmpty()) {
+            throw new IllegalArgumentException("태그 이름을 입력해주세요.");
+        }
+        return tags.get(0);
     }
 
-    // 여러 태그 이름으로 조회 또는 생성
+    // ✅ 여러 태그 이름으로 조회 또는 생성 (태그 수와 무관하게 쿼리 몇 번으로 처리)
+    // 1. 캐시에 id가 있는 태그 → PK IN 조회 1번
+    // 2. 나머지 → 이름 IN 조회 1번
+    // 3. 없는 태그 → INSERT IGNORE 일괄 삽입 (동시 생성 충돌 무시) 후 잠금 읽기로 재조회
+    //    이름순으로 정렬해서 삽입/잠금 → 겹치는 태그를 동시에 만드는 요청끼리 잠금 순서가 같아 교착 없음
     @Transactional
     public List<Tag> getOrCreateTags(List<String> tagNames) {
-        return tagNames.stream()
-                .map(this::getOrCreateTag)
-                .collect(Collectors.toList());
+        List<String> names = normalizeTagNames(tagNames);
+        if (names.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, Tag> tagsByName = new HashMap<>();
+
+        List<Long> cachedIds = new ArrayList<>();
+        for (String name : names) {
+            Long id = tagIdCache.get(name);
+            if (id != null) {
+                cachedIds.add(id);
+            }
+        }
+        if (!cachedIds.isEmpty()) {
+            // 삭제된 태그는 조회되지 않으므로 아래 이름 조회로 넘어감
+            putAll(tagsByName, tagRepository.findAllById(cachedIds));
+        }
+
+        List<String> unresolved = unresolvedNames(names, tagsByName);
+        if (!unresolved.isEmpty()) {
+            putAll(tagsByName, tagRepository.findByNameIn(unresolved));
+
+            List<String> missing = unresolvedNames(unresolved, tagsByName);
+            if (!missing.isEmpty()) {
+                Collections.sort(missing);
+                jdbcTemplate.batchUpdate(
+                        "INSERT IGNORE INTO tags (name, use_count, created_at) VALUES (?, 0, NOW())",
+                        missing, missing.size(), (ps, name) -> ps.setString(1, name));
+                List<Tag> created = tagRepository.findLockedByNameIn(missing);
+                putAll(tagsByName, created);
+                created.forEach(tagAutocompleteIndex::add);
+            }
+        }
+
+        List<Tag> result = new ArrayList<>();
+        for (String name : names) {
+            Tag tag = tagsByName.get(name);
+            if (tag == null) {
+                // DB 콜레이션상 같은 이름(대소문자/악센트 차이)으로 저장된 기존 태그
+                tag = tagRepository.findByName(name)
+                        .orElseThrow(() -> new IllegalStateException("태그를 생성하지 못했습니다: " + name));
+            }
+            cacheTagId(name, tag.getId());
+            result.add(tag);
+        }
+        return result;
     }
 
-    // 사용되지 않는 태그 삭제 (useCount = 0)
+    // 태그 이름 정규화: 앞뒤 공백 제거, 소문자, 빈 값/중복 제거 (입력 순서 유지)
+    private List<String> normalizeTagNames(List<String> tagNames) {
+        Set<String> names = new LinkedHashSet<>();
+        if (tagNames != null) {
+            for (String tagName : tagNames) {
+                if (tagName == null) {
+                    continue;
+                }
+                String normalizedName = tagName.trim().toLowerCase();
+                if (normalizedName.isEmpty()) {
+                    continue;
+                }
+                if (normalizedName.length() > MAX_TAG_NAME_LENGTH) {
+                    throw new IllegalArgumentException("태그는 " + MAX_TAG_NAME_LENGTH + "자 이하로 입력해주세요.");
+                }
+                names.add(normalizedName);
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    private List<String> unresolvedNames(List<String> names, Map<String, Tag> tagsByName) {
+        List<String> unresolved = new ArrayList<>();
+        for (String name : names) {
+            if (!tagsByName.containsKey(name)) {
+                unresolved.add(name);
+            }
+        }
+        return unresolved;
+    }
+
+    private void putAll(Map<String, Tag> tagsByName, List<Tag> tags) {
+        for (Tag tag : tags) {
+            tagsByName.put(tag.getName(), tag);
+        }
+    }
+
+    private void cacheTagId(String name, Long id) {
+        if (tagIdCache.size() >= TAG_ID_CACHE_LIMIT) {
+            tagIdCache.clear();
+        }
+        tagIdCache.put(name, id);
+    }
+
+    // ✅ 게시글 태그 지정 (작성/수정 공통)
+    // post_tags는 Post.tags(소유 측)로만 변경, use_count는 바뀐 태그만 상대 UPDATE
+    // → 비용은 게시글의 태그 수에 비례 (태그별 게시글 수와 무관)
     @Transactional
-    public void deleteUnusedTags() {
-        List<Tag> unusedTags = tagRepository.findByUseCountGreaterThan(-1).stream()
-                .filter(tag -> tag.getUseCount() == 0)
-                .collect(Collectors.toList());
+    public void assignTags(Post post, List<String> tagNames) {
+        List<Tag> newTags = tagNames == null || tagNames.isEmpty()
+                ? new ArrayList<>()
+                : getOrCreateTags(tagNames);
+
+        Set<Long> before = new HashSet<>();
+        for (Tag tag : post.getTags()) {
+            before.add(tag.getId());
+        }
+        Set<Long> after = new HashSet<>();
+        for (Tag tag : newTags) {
+            after.add(tag.getId());
+        }
+
+        if (before.equals(after)) {
+            return;
+        }
+
+        post.clearTags();
+        for (Tag tag : newTags) {
+            post.addTag(tag);
+        }
+
+        Set<Long> added = new HashSet<>(after);
+        added.removeAll(before);
+        Set<Long> removed = new HashSet<>(before);
+        removed.removeAll(after);
+
+        if (!added.isEmpty()) {
+            tagRepository.incrementUseCount(added);
+        }
+        if (!removed.isEmpty()) {
+            tagRepository.decrementUseCount(removed);
+        }
+        tagAutocompleteIndex.markChanged();
+    }
+
+    // 게시글 삭제 시 사용 횟수 감소
+    @Transactional
+    public void releaseTags(Collection<Tag> tags) {
+        Set<Long> tagIds = new HashSet<>();
+        for (Tag tag : tags) {
+            tagIds.add(tag.getId());
+        }
+        if (!tagIds.isEmpty()) {
+            tagRepository.decrementUseCount(tagIds);
+            tagAutocompleteIndex.markChanged();
+        }
+    }
+
+    // ✅ 태그 정리 작업 (주기 실행 + 관리자 수동 실행)
+    // 1. id 구간별로 use_count를 post_tags 실제 개수로 보정
+    // 2. use_count = 0 인 태그를 구간별 DELETE 한 번씩으로 삭제
+    // 구간마다 별도의 짧은 트랜잭션 (테이블 전체 로딩/장시간 잠금 없음)
+    @Scheduled(cron = "${tag.cleanup.cron:0 30 4 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TagCleanupResponse cleanUpTags() {
+        long start = System.currentTimeMillis();
+        int chunks = 0;
+
+        int reconciled = 0;
+        long maxId = tagRepository.findMaxId().orElse(0L);
+        for (long fromId = 1; fromId <= maxId; fromId += cleanupChunkSize) {
+            reconciled += tagRepository.reconcileUseCounts(fromId, fromId + cleanupChunkSize - 1);
+            chunks++;
+        }
+
+        int deleted = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> unusedIds = tagRepository.findUnusedIds(afterId, PageRequest.of(0, cleanupChunkSize));
+            if (unusedIds.isEmpty()) {
+                break;
+            }
+            deleted += tagRepository.deleteUnusedByIds(unusedIds);
+            chunks++;
+            afterId = unusedIds.get(unusedIds.size() - 1);
+            if (unusedIds.size() < cleanupChunkSize) {
+                break;
+            }
+        }
+
+        if (deleted > 0) {
+            tagIdCache.clear();
+        }
+        if (reconciled > 0 || deleted > 0) {
+            // 보정/삭제 결과를 바로 반영 (삭제된 최근 태그도 함께 제거)
+            tagAutocompleteIndex.markChanged();
+            tagAutocompleteIndex.refresh();
+        }
+
+        TagCleanupResponse result = TagCleanupResponse.builder()
+                .reconciledCount(reconciled)
+                .deletedCount(deleted)
+                .chunks(chunks)
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .finishedAt(LocalDateTime.now())
+                .build();
+        lastCleanup = result;
+
+        log.info("태그 정리 완료 - 보정: {}개, 삭제: {}개, 구간: {}개, {}ms",
+                reconciled, deleted, chunks, result.getElapsedMillis());
+        return result;
+    }
 
-        tagRepository.deleteAll(unusedTags);
+    // 마지막 정리 작업 결과 (아직 실행 전이면 null)
+    public TagCleanupResponse getLastCleanup() {
+        return lastCleanup;
     }
-}
\ No newline at end of file
+}
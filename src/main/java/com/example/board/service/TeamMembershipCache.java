@@ -0,0 +1,128 @@
+package com.example.board.service;
+
+import com.example.board.entity.TeamMember;
+import com.example.board.repository.TeamMemberRepository;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 팀 멤버십/역할 캐시 (칸반, 공동 편집 방, 팀 API 권한 확인용)
+ *
+ * - 키: (teamId, userId), 값: 역할 (멤버가 아니면 null도 캐시)
+ * - TTL 만료 + 초대/제거/팀 삭제 시 커밋 후 명시적 무효화
+ * - 크기 제한 LRU (max-entries 초과 시 가장 오래 안 쓴 항목 제거)
+ * - 무효화 도중 읽어온 결과가 다시 저장되지 않도록 세대(generation) 번호로 확인
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamMembershipCache {
+
+    private final TeamMemberRepository teamMemberRepository;
+
+    @Value("${team.membership-cache.ttl:30000}")
+    private long ttlMillis;
+
+    @Value("${team.membership-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Map<Key, CachedRole> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CachedRole> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    /**
+     * 팀 내 역할 (멤버가 아니면 empty)
+     */
+    public Optional<TeamMember.TeamRole> findRole(Long teamId, Long userId) {
+        Key key = new Key(teamId, userId);
+        synchronized (entries) {
+            CachedRole cached = entries.get(key);
+            if (cached != null) {
+                if (cached.expiresAt >= System.currentTimeMillis()) {
+                    return Optional.ofNullable(cached.role);
+                }
+                entries.remove(key);
+            }
+        }
+
+        long loadedGeneration = generation.get();
+        TeamMember.TeamRole role = teamMemberRepository.findRoleByTeamIdAndUserId(teamId, userId).orElse(null);
+
+        synchronized (entries) {
+            if (generation.get() == loadedGeneration) {
+                entries.put(key, new CachedRole(role, System.currentTimeMillis() + ttlMillis));
+            }
+        }
+        return Optional.ofNullable(role);
+    }
+
+    public boolean isMember(Long teamId, Long userId) {
+        return findRole(teamId, userId).isPresent();
+    }
+
+    public boolean isAdmin(Long teamId, Long userId) {
+        return findRole(teamId, userId)
+                .filter(role -> role == TeamMember.TeamRole.OWNER || role == TeamMember.TeamRole.ADMIN)
+                .isPresent();
+    }
+
+    // 멤버 추가/제거 (트랜잭션 안이면 커밋 후 반영)
+    public void invalidateAfterCommit(Long teamId, Long userId) {
+        afterCommit(() -> {
+            synchronized (entries) {
+                generation.incrementAndGet();
+                entries.remove(new Key(teamId, userId));
+            }
+        });
+    }
+
+    // 팀 삭제
+    public void invalidateTeamAfterCommit(Long teamId) {
+        afterCommit(() -> {
+            synchronized (entries) {
+                generation.incrementAndGet();
+                entries.keySet().removeIf(key -> key.teamId.equals(teamId));
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Key {
+        private final Long teamId;
+        private final Long userId;
+    }
+
+    @AllArgsConstructor
+    private static class CachedRole {
+        private final TeamMember.TeamRole role;
+        private final long expiresAt;
+    }
+}
@@ -27,6 +27,7 @@ public class TeamService {
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final UserRepository userRepository;
+    private final TeamMembershipCache membershipCache;
 
     /**
      * 팀 생성
@@ -81,6 +82,7 @@ public class TeamService {
         ownerMember.setRole(TeamMember.TeamRole.OWNER);
 
         teamMemberRepository.save(ownerMember);
+        membershipCache.invalidateAfterCommit(savedTeam.getId(), creator.getId());
         log.info("✅ 팀 멤버 저장 성공");
         log.info("========================================");
 
@@ -135,6 +137,7 @@ public class TeamService {
         newMember.setRole(role);
 
         TeamMember savedMember = teamMemberRepository.save(newMember);
+        membershipCache.invalidateAfterCommit(teamId, invitedUser.getId());
 
         log.info("팀원 초대 완료 - teamId: {}, invitedEmail: {}, role: {}", teamId, request.getEmail(), role);
 
@@ -153,6 +156,7 @@ public class TeamService {
         }
 
         teamMemberRepository.deleteByTeam_IdAndUser_Id(teamId, memberId);
+        membershipCache.invalidateAfterCommit(teamId, memberId);
 
         log.info("팀원 제거 완료 - teamId: {}, removedUserId: {}", teamId, memberId);
     }
@@ -167,22 +171,22 @@ public class TeamService {
         }
 
         teamRepository.delete(team);
+        membershipCache.invalidateTeamAfterCommit(teamId);
 
         log.info("팀 삭제 완료 - teamId: {}, deletedBy: {}", teamId, currentUserId);
     }
 
     private void checkTeamMembership(Long teamId, Long userId) {
-        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(teamId, userId)) {
+        if (!membershipCache.isMember(teamId, userId)) {
             throw new IllegalStateException("팀 멤버가 아닙니다");
         }
     }
 
     private void checkTeamAdminPermission(Long teamId, Long userId) {
-        TeamMember member = teamMemberRepository.findByTeam_IdAndUser_Id(teamId, userId)
+        TeamMember.TeamRole role = membershipCache.findRole(teamId, userId)
                 .orElseThrow(() -> new IllegalStateException("팀 멤버가 아닙니다"));
 
-        if (member.getRole() != TeamMember.TeamRole.OWNER &&
-                member.getRole() != TeamMember.TeamRole.ADMIN) {
+        if (role != TeamMember.TeamRole.OWNER && role != TeamMember.TeamRole.ADMIN) {
             throw new IllegalStateException("권한이 없습니다 (OWNER 또는 ADMIN만 가능)");
         }
     }
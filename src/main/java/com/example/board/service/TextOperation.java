@@ -0,0 +1,235 @@
+package com.example.board.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 텍스트 편집 연산 (OT)
+ *
+ * 문서 처음부터 순서대로 적용하는 구성 요소 목록:
+ * - 양수 n: n글자 유지 (retain)
+ * - 문자열 s: s 삽입 (insert)
+ * - 음수 -n: n글자 삭제 (delete)
+ * 전송 형식도 같은 배열 그대로 (예: [12, "abc", -3, 40])
+ * 길이는 Java String 기준 (UTF-16 코드 유닛) → 브라우저 문자열 길이와 같음
+ */
+public final class TextOperation {
+
+    private final List<Object> ops = new ArrayList<>();
+    private int baseLength;    // 적용 전 문서 길이
+    private int targetLength;  // 적용 후 문서 길이
+
+    public int getBaseLength() {
+        return baseLength;
+    }
+
+    public int getTargetLength() {
+        return targetLength;
+    }
+
+    public List<Object> toList() {
+        return Collections.unmodifiableList(ops);
+    }
+
+    public boolean isNoop() {
+        return ops.isEmpty() || (ops.size() == 1 && isRetain(ops.get(0)));
+    }
+
+    public TextOperation retain(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("retain 길이는 0 이상이어야 합니다");
+        }
+        if (n == 0) {
+            return this;
+        }
+        baseLength += n;
+        targetLength += n;
+        int last = ops.size() - 1;
+        if (last >= 0 && isRetain(ops.get(last))) {
+            ops.set(last, (Integer) ops.get(last) + n);
+        } else {
+            ops.add(n);
+        }
+        return this;
+    }
+
+    public TextOperation insert(String text) {
+        if (text == null || text.isEmpty()) {
+            return this;
+        }
+        targetLength += text.length();
+        int last = ops.size() - 1;
+        if (last >= 0 && isInsert(ops.get(last))) {
+            ops.set(last, ops.get(last) + text);
+        } else if (last >= 0 && isDelete(ops.get(last))) {
+            // 삽입은 항상 삭제 앞에 두어 같은 결과의 표현을 하나로 맞춤
+            if (last > 0 && isInsert(ops.get(last - 1))) {
+                ops.set(last - 1, ops.get(last - 1) + text);
+            } else {
+                ops.add(last, text);
+            }
+        } else {
+            ops.add(text);
+        }
+        return this;
+    }
+
+    public TextOperation delete(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("delete 길이는 0 이상이어야 합니다");
+        }
+        if (n == 0) {
+            return this;
+        }
+        baseLength += n;
+        int last = ops.size() - 1;
+        if (last >= 0 && isDelete(ops.get(last))) {
+            ops.set(last, (Integer) ops.get(last) - n);
+        } else {
+            ops.add(-n);
+        }
+        return this;
+    }
+
+    /**
+     * 전송 형식(숫자/문자열 배열)에서 변환
+     */
+    public static TextOperation fromList(List<?> components) {
+        if (components == null) {
+            throw new IllegalArgumentException("ops는 필수입니다");
+        }
+        TextOperation operation = new TextOperation();
+        for (Object component : components) {
+            if (component instanceof String text) {
+                operation.insert(text);
+            } else if (component instanceof Number number) {
+                long value = number.longValue();
+                if (value != number.doubleValue() || Math.abs(value) > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("잘못된 연산입니다: " + component);
+                }
+                if (value > 0) {
+                    operation.retain((int) value);
+                } else if (value < 0) {
+                    operation.delete((int) -value);
+                }
+            } else {
+                throw new IllegalArgumentException("잘못된 연산입니다: " + component);
+            }
+        }
+        return operation;
+    }
+
+    /**
+     * 두 문자열 차이를 연산으로 (공통 앞/뒤는 유지, 가운데만 교체)
+     */
+    public static TextOperation diff(String before, String after) {
+        int prefix = 0;
+        int max = Math.min(before.length(), after.length());
+        while (prefix < max && before.charAt(prefix) == after.charAt(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < max - prefix
+                && before.charAt(before.length() - 1 - suffix) == after.charAt(after.length() - 1 - suffix)) {
+            suffix++;
+        }
+        return new TextOperation()
+                .retain(prefix)
+                .delete(before.length() - prefix - suffix)
+                .insert(after.substring(prefix, after.length() - suffix))
+                .retain(suffix);
+    }
+
+    public String apply(String document) {
+        if (document.length() != baseLength) {
+            throw new IllegalArgumentException("연산의 기준 길이와 문서 길이가 다릅니다");
+        }
+        StringBuilder result = new StringBuilder(targetLength);
+        int index = 0;
+        for (Object op : ops) {
+            if (isRetain(op)) {
+                int n = (Integer) op;
+                result.append(document, index, index + n);
+                index += n;
+            } else if (isInsert(op)) {
+                result.append((String) op);
+            } else {
+                index -= (Integer) op;
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 같은 문서에 동시에 만들어진 a, b → [a', b']
+     * apply(apply(doc, a), b') == apply(apply(doc, b), a')
+     * 같은 위치 삽입은 a가 앞
+     */
+    public static TextOperation[] transform(TextOperation a, TextOperation b) {
+        if (a.baseLength != b.baseLength) {
+            throw new IllegalArgumentException("기준 길이가 다른 연산은 변환할 수 없습니다");
+        }
+
+        TextOperation aPrime = new TextOperation();
+        TextOperation bPrime = new TextOperation();
+        List<Object> ops1 = a.ops;
+        List<Object> ops2 = b.ops;
+        int i1 = 0;
+        int i2 = 0;
+        Object op1 = i1 < ops1.size() ? ops1.get(i1++) : null;
+        Object op2 = i2 < ops2.size() ? ops2.get(i2++) : null;
+
+        while (op1 != null || op2 != null) {
+            if (op1 != null && isInsert(op1)) {
+                aPrime.insert((String) op1);
+                bPrime.retain(((String) op1).length());
+                op1 = i1 < ops1.size() ? ops1.get(i1++) : null;
+                continue;
+            }
+            if (op2 != null && isInsert(op2)) {
+                aPrime.retain(((String) op2).length());
+                bPrime.insert((String) op2);
+                op2 = i2 < ops2.size() ? ops2.get(i2++) : null;
+                continue;
+            }
+            if (op1 == null || op2 == null) {
+                throw new IllegalArgumentException("연산 길이가 맞지 않습니다");
+            }
+
+            int n1 = (Integer) op1;
+            int n2 = (Integer) op2;
+            int length1 = Math.abs(n1);
+            int length2 = Math.abs(n2);
+            int min = Math.min(length1, length2);
+
+            if (n1 > 0 && n2 > 0) {
+                aPrime.retain(min);
+                bPrime.retain(min);
+            } else if (n1 < 0 && n2 > 0) {
+                aPrime.delete(min);
+            } else if (n1 > 0) {
+                bPrime.delete(min);
+            }
+            // 둘 다 삭제면 이미 지워진 구간 → 양쪽 모두 아무것도 안 함
+
+            op1 = length1 > min ? (Object) (n1 > 0 ? n1 - min : n1 + min)
+                    : (i1 < ops1.size() ? ops1.get(i1++) : null);
+            op2 = length2 > min ? (Object) (n2 > 0 ? n2 - min : n2 + min)
+                    : (i2 < ops2.size() ? ops2.get(i2++) : null);
+        }
+        return new TextOperation[]{aPrime, bPrime};
+    }
+
+    private static boolean isRetain(Object op) {
+        return op instanceof Integer n && n > 0;
+    }
+
+    private static boolean isInsert(Object op) {
+        return op instanceof String;
+    }
+
+    private static boolean isDelete(Object op) {
+        return op instanceof Integer n && n < 0;
+    }
+}
@@ -0,0 +1,3 @@
+-- 커서(keyset) 페이지네이션용 인덱스: (created_at, id) 순서로 정렬/범위 조회
+CREATE INDEX idx_posts_created_at_id ON posts(created_at, id);
+CREATE INDEX idx_posts_category_created_at_id ON posts(category_id, created_at, id);
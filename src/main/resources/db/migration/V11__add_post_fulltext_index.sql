@@ -0,0 +1,2 @@
+-- 게시글 전문 검색 인덱스 (한국어 검색을 위해 ngram 파서 사용, 기본 토큰 크기 2)
+ALTER TABLE posts ADD FULLTEXT INDEX ft_posts_title_content (title, content) WITH PARSER ngram;
@@ -0,0 +1,2 @@
+-- 댓글 커서(keyset) 페이지네이션용 인덱스: 게시글별 (created_at, id) 순서로 범위 조회
+CREATE INDEX idx_comments_post_created_at_id ON comments(post_id, created_at, id);
@@ -0,0 +1,11 @@
+-- 칸반 카드 position: 연속 정수(0,1,2,...) → 간격을 둔 BIGINT (2^20 간격)
+-- 카드 이동 시 이웃 사이 중간값만 쓰므로 다른 카드의 position은 바꾸지 않음
+ALTER TABLE kanban_card MODIFY position BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 보드: 컬럼(board_id, status)별 현재 순서 그대로 1·2^20, 2·2^20, ... 로 변환
+UPDATE kanban_card c
+JOIN (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY board_id, status ORDER BY position, id) AS rn
+    FROM kanban_card
+) ranked ON ranked.id = c.id
+SET c.position = ranked.rn * 1048576;
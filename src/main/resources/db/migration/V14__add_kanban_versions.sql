@@ -0,0 +1,7 @@
+-- 칸반 동시 수정 제어
+-- version: JPA 낙관적 잠금 (@Version), revision: 보드 단위 변경 번호 (카드 변경마다 +1)
+ALTER TABLE kanban_card ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE kanban_board
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN revision BIGINT NOT NULL DEFAULT 0;
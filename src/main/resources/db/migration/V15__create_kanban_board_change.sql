@@ -0,0 +1,16 @@
+-- 칸반 보드 변경 로그 (append-only)
+-- 보드 revision이 올라갈 때마다 같은 트랜잭션에서 1건 이상 기록 → GET /boards/{id}/changes?since= 델타 조회
+-- 오래된 로그는 정리 작업이 삭제 (since가 남은 로그보다 오래되면 전체 스냅샷으로 응답)
+CREATE TABLE kanban_board_change (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    board_id BIGINT NOT NULL,
+    revision BIGINT NOT NULL,
+    change_type VARCHAR(30) NOT NULL,  -- CARD_UPSERTED, CARD_DELETED, COLUMN_REBALANCED
+    card_id BIGINT,                    -- 카드 변경일 때
+    status VARCHAR(20),                -- 컬럼 재배치일 때
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_kanban_change_board FOREIGN KEY (board_id) REFERENCES kanban_board(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_kanban_change_board_revision ON kanban_board_change(board_id, revision);
+CREATE INDEX idx_kanban_change_created_at ON kanban_board_change(created_at);
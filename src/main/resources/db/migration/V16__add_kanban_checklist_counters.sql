@@ -0,0 +1,26 @@
+-- 칸반 체크리스트 테이블 (엔티티에만 있고 마이그레이션에 없던 테이블 → 없을 때만 생성)
+CREATE TABLE IF NOT EXISTS kanban_checklist_item (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    card_id BIGINT NOT NULL,
+    text VARCHAR(200) NOT NULL,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    position INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_kanban_checklist_card FOREIGN KEY (card_id) REFERENCES kanban_card(id) ON DELETE CASCADE,
+    INDEX idx_kanban_checklist_card (card_id, position)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 카드별 체크리스트 개수 (전체 / 완료), 체크리스트 변경 시 상대 갱신 (+1 / -1)
+ALTER TABLE kanban_card
+    ADD COLUMN checklist_total INT NOT NULL DEFAULT 0,
+    ADD COLUMN checklist_done INT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 채우기
+UPDATE kanban_card c
+JOIN (
+    SELECT card_id, COUNT(*) AS total, SUM(completed) AS done
+    FROM kanban_checklist_item
+    GROUP BY card_id
+) counts ON counts.card_id = c.id
+SET c.checklist_total = counts.total,
+    c.checklist_done = counts.done;
@@ -0,0 +1,2 @@
+-- 공동 편집 접속자는 메모리에서 관리 (PresenceRegistry) → JOIN/LEAVE마다 쓰던 세션 테이블 제거
+DROP TABLE IF EXISTS edit_session;
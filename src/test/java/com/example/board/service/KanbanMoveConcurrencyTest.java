@@ -0,0 +1,194 @@
+package com.example.board.service;
+
+import com.example.board.dto.kanban.KanbanCardMoveRequest;
+import com.example.board.entity.KanbanBoard;
+import com.example.board.entity.KanbanBoardChange;
+import com.example.board.entity.KanbanCard;
+import com.example.board.entity.Team;
+import com.example.board.entity.TeamMember;
+import com.example.board.entity.User;
+import com.example.board.repository.KanbanBoardChangeRepository;
+import com.example.board.repository.KanbanBoardRepository;
+import com.example.board.repository.KanbanCardRepository;
+import com.example.board.repository.TeamMemberRepository;
+import com.example.board.repository.TeamRepository;
+import com.example.board.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 칸반 카드 동시 이동 스트레스 테스트
+ *
+ * - 여러 스레드가 같은 보드의 카드를 임의 컬럼/위치로 동시에 이동
+ * - 끝난 뒤 모든 카드가 정확히 한 번씩 남아 있고, 컬럼마다 position이 겹치지 않아
+ *   (position, id) 순서가 곧 0..n-1 순위가 되는지 확인 (순서가 모호한 카드 없음)
+ * - 보드 revision은 이동 횟수만큼 빈 번호 없이 증가하고, 변경 로그에도 같은 revision이 하나씩 남아야 함
+ * - 컬럼 즉시 재배치(UPDATE ... JOIN)는 MySQL 전용이라 H2에서는 간격이 바닥나지 않는 범위에서만 이동
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class KanbanMoveConcurrencyTest {
+
+    private static final int CARD_COUNT = 12;
+    private static final int THREADS = 8;
+    private static final int MOVES_PER_THREAD = 25;
+
+    @Autowired
+    private KanbanMoveService kanbanMoveService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private KanbanBoardRepository boardRepository;
+
+    @Autowired
+    private KanbanCardRepository cardRepository;
+
+    @Autowired
+    private KanbanBoardChangeRepository changeRepository;
+
+    private Long userId;
+    private Long boardId;
+    private List<Long> cardIds;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        User user = userRepository.save(User.builder()
+                .email("kanban" + suffix + "@test.com")
+                .username("kanban" + suffix)
+                .password("password")
+                .build());
+        Team team = teamRepository.save(Team.builder()
+                .name("team")
+                .createdBy(user)
+                .build());
+        teamMemberRepository.save(TeamMember.builder()
+                .team(team)
+                .user(user)
+                .role(TeamMember.TeamRole.OWNER)
+                .build());
+        KanbanBoard board = boardRepository.save(KanbanBoard.builder()
+                .team(team)
+                .name("board")
+                .build());
+
+        cardIds = new ArrayList<>();
+        for (int i = 0; i < CARD_COUNT; i++) {
+            KanbanCard card = cardRepository.save(KanbanCard.builder()
+                    .board(board)
+                    .title("card-" + i)
+                    .status(KanbanCard.CardStatus.TODO)
+                    .position((i + 1) * KanbanPositionRebalancer.POSITION_GAP)
+                    .createdBy(user)
+                    .build());
+            cardIds.add(card.getId());
+        }
+
+        userId = user.getId();
+        boardId = board.getId();
+    }
+
+    @Test
+    void concurrentMovesKeepEveryColumnADenseOrder() throws Exception {
+        long startRevision = boardRepository.findRevisionById(boardId).orElseThrow();
+        KanbanCard.CardStatus[] statuses = KanbanCard.CardStatus.values();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger moved = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < MOVES_PER_THREAD; i++) {
+                    Long cardId = cardIds.get(random.nextInt(cardIds.size()));
+                    KanbanCardMoveRequest request = KanbanCardMoveRequest.builder()
+                            .status(statuses[random.nextInt(statuses.length)].name())
+                            .position(random.nextInt(CARD_COUNT + 1))
+                            .build();
+                    try {
+                        kanbanMoveService.moveCard(boardId, cardId, request, userId);
+                        moved.incrementAndGet();
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        // 보드 행 잠금으로 직렬화되므로 재시도 후에도 실패한 이동이 없어야 함
+        assertThat(failures).isEmpty();
+        assertThat(moved.get()).isEqualTo(THREADS * MOVES_PER_THREAD);
+
+        // 모든 카드가 정확히 한 컬럼에 한 번씩
+        List<Long> seen = new ArrayList<>();
+        for (KanbanCard.CardStatus status : statuses) {
+            List<Long> column = cardRepository.findIdsInColumn(boardId, status);
+            seen.addAll(column);
+
+            // 컬럼 안의 position이 모두 달라 (position, id) 순서가 position만으로 정해짐
+            List<Long> positions = column.stream()
+                    .map(id -> cardRepository.findById(id).orElseThrow().getPosition())
+                    .collect(Collectors.toList());
+            assertThat(positions).doesNotHaveDuplicates();
+            assertThat(positions).isSorted();
+        }
+        assertThat(seen).hasSize(CARD_COUNT);
+        assertThat(new HashSet<>(seen)).isEqualTo(new HashSet<>(cardIds));
+
+        // revision은 이동 1건당 1씩, 변경 로그도 revision마다 한 건
+        long endRevision = boardRepository.findRevisionById(boardId).orElseThrow();
+        assertThat(endRevision - startRevision).isEqualTo(moved.get());
+
+        List<KanbanBoardChange> changes = changeRepository.findSince(boardId, startRevision, PageRequest.of(0, moved.get() + 1));
+        List<Long> revisions = changes.stream()
+                .map(KanbanBoardChange::getRevision)
+                .collect(Collectors.toList());
+        Set<Long> expected = new HashSet<>();
+        for (long r = startRevision + 1; r <= endRevision; r++) {
+            expected.add(r);
+        }
+        assertThat(revisions).doesNotHaveDuplicates();
+        assertThat(new HashSet<>(revisions)).isEqualTo(expected);
+        assertThat(Collections.max(revisions)).isEqualTo(endRevision);
+    }
+}